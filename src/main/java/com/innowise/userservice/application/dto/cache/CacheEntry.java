@@ -0,0 +1,19 @@
+package com.innowise.userservice.application.dto.cache;
+
+import java.time.Instant;
+
+/**
+ * A cached value together with the moment its cache entry expires.
+ * <p>
+ * Knowing the expiry lets callers refresh an entry shortly before it lapses
+ * instead of letting every reader miss at once.
+ *
+ * @param value The cached value.
+ * @param expiresAt The moment the entry expires, or {@code null} if unknown or not expiring.
+ * @param <T> type of the cached value
+ * @since 1.0
+ */
+public record CacheEntry<T>(
+    T value,
+    Instant expiresAt
+) {}
@@ -56,4 +56,9 @@ public class UserCacheDto {
      * allowing the entire aggregate to be cached as one unit.
      */
     private List<CardInfoCacheDto> cards;
+
+    /**
+     * The version of the user's profile the aggregate was cached at.
+     */
+    private Long version;
 }
\ No newline at end of file
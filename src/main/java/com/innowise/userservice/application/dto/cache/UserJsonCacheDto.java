@@ -0,0 +1,28 @@
+package com.innowise.userservice.application.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The final JSON body of a user response, cached so it can be written to the
+ * client without mapping or serializing the user aggregate again.
+ *
+ * @see UserCacheDto
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserJsonCacheDto {
+
+    /**
+     * The version of the user's profile the body was rendered at, sent as the entity tag.
+     */
+    private Long version;
+
+    /**
+     * The UTF-8 encoded JSON body of the user response.
+     */
+    private byte[] json;
+}
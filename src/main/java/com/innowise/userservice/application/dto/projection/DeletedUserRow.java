@@ -0,0 +1,23 @@
+package com.innowise.userservice.application.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Read-only projection of one row deleted by a user delete.
+ * Each row is either a deleted user, with only {@link #getUserId()} set,
+ * or one of the deleted cards, with only {@link #getCardId()} set.
+ *
+ * @since 1.0
+ */
+public interface DeletedUserRow {
+
+    /**
+     * @return the unique identifier of the deleted user, or {@code null} if the row is a card
+     */
+    UUID getUserId();
+
+    /**
+     * @return the unique identifier of the deleted card, or {@code null} if the row is a user
+     */
+    UUID getCardId();
+}
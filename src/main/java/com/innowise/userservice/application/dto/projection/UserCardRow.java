@@ -0,0 +1,31 @@
+package com.innowise.userservice.application.dto.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat read-only projection of a user joined with one of their cards.
+ * A user without cards is represented by a single row whose card columns are {@code null}.
+ *
+ * @param userId The unique identifier of the user
+ * @param name The user's first name
+ * @param surname The user's last name
+ * @param birthDate The user's date of birth
+ * @param email The user's email address
+ * @param cardId The unique identifier of the card, or {@code null} if the user has no cards
+ * @param cardNumber The card number
+ * @param cardHolder The name of the card holder
+ * @param cardExpirationDate The date when the card expires
+ * @since 1.0
+ */
+public record UserCardRow(
+    UUID userId,
+    String name,
+    String surname,
+    LocalDate birthDate,
+    String email,
+    UUID cardId,
+    String cardNumber,
+    String cardHolder,
+    LocalDate cardExpirationDate
+) {}
@@ -0,0 +1,16 @@
+package com.innowise.userservice.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object representing the outcome of a batch card lookup.
+ *
+ * @param cards The cards that were found, in the order their ids were first requested
+ * @param missing The requested ids that do not belong to any card, in request order
+ * @since 1.0
+ */
+public record CardBatchGetResponse(
+    List<CardInfoResponse> cards,
+    List<UUID> missing
+) {}
@@ -0,0 +1,17 @@
+package com.innowise.userservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing the outcome of a bulk card import.
+ *
+ * @param imported The number of cards written
+ * @param rejected The number of rows skipped because they were invalid or referenced an unknown user
+ * @param errors Descriptions of the first rejected rows, each prefixed with its line number
+ * @since 1.0
+ */
+public record CardImportResponse(
+    long imported,
+    long rejected,
+    List<String> errors
+) {}
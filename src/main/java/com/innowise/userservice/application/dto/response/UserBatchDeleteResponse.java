@@ -0,0 +1,13 @@
+package com.innowise.userservice.application.dto.response;
+
+/**
+ * Data Transfer Object representing the outcome of a batch user deletion.
+ *
+ * @param requested The number of distinct user ids in the request
+ * @param deleted The number of users actually deleted; ids of users that did not exist are not counted
+ * @since 1.0
+ */
+public record UserBatchDeleteResponse(
+    int requested,
+    int deleted
+) {}
@@ -0,0 +1,16 @@
+package com.innowise.userservice.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object representing the outcome of a batch user lookup.
+ *
+ * @param users The users that were found, in the order their ids were first requested
+ * @param missing The requested ids that do not belong to any user, in request order
+ * @since 1.0
+ */
+public record UserBatchGetResponse(
+    List<UserResponse> users,
+    List<UUID> missing
+) {}
@@ -0,0 +1,19 @@
+package com.innowise.userservice.application.dto.response;
+
+/**
+ * Data Transfer Object representing the outcome of one item of a batch user creation.
+ * Items are reported in request order, and the status code matches what a single
+ * create request for the item would have returned.
+ *
+ * @param index The position of the item in the batch request
+ * @param statusCode The HTTP status code for this item, 201 if created
+ * @param user The created user, or {@code null} if the item failed
+ * @param message A descriptive message explaining the failure, or {@code null} if created
+ * @since 1.0
+ */
+public record UserCreationResult(
+    int index,
+    int statusCode,
+    UserResponse user,
+    String message
+) {}
@@ -0,0 +1,18 @@
+package com.innowise.userservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing one page of users in API responses.
+ * <p>
+ * Pages are ordered by user id. The continuation token is opaque to clients and
+ * must be passed back unchanged to fetch the following page.
+ *
+ * @param content The users on this page, each with their credit cards
+ * @param nextCursor The continuation token for the next page, or {@code null} on the last page
+ * @since 1.0
+ */
+public record UserPageResponse(
+    List<UserResponse> content,
+    String nextCursor
+) {}
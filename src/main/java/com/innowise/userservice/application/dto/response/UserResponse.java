@@ -1,5 +1,7 @@
 package com.innowise.userservice.application.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -16,6 +18,7 @@ import java.util.UUID;
  * @param birthDate The user's date of birth
  * @param email The user's email address
  * @param cards List of credit cards associated with the user
+ * @param version The version of the user and their cards; sent as the {@code ETag} header rather than in the body
  * @since 1.0
  */
 public record UserResponse(
@@ -24,5 +27,6 @@ public record UserResponse(
     String surname,
     LocalDate birthDate,
     String email,
-    List<CardInfoResponse> cards
+    List<CardInfoResponse> cards,
+    @JsonIgnore Long version
 ) {} 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.innowise.userservice.application.exception.badrequest;
+
+import com.innowise.userservice.application.exception.BaseException;
+
+/**
+ * Exception thrown when a CSV import does not start with the expected header line.
+ * Maps to HTTP 400 Bad Request response.
+ *
+ * @since 1.0
+ */
+public class InvalidCsvHeaderException extends BaseException {
+    private final int statusCode = 400;
+
+    /**
+     * Constructs a new exception when the CSV header is missing or unexpected.
+     *
+     * @param message the detail message naming the expected header
+     */
+    public InvalidCsvHeaderException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,37 @@
+package com.innowise.userservice.application.exception.badrequest;
+
+import com.innowise.userservice.application.exception.BaseException;
+
+/**
+ * Exception thrown when a pagination continuation token cannot be decoded.
+ * Maps to HTTP 400 Bad Request response.
+ *
+ * @since 1.0
+ */
+public class InvalidCursorException extends BaseException {
+    private final int statusCode = 400;
+
+    /**
+     * Constructs a new exception when a continuation token is malformed.
+     *
+     * @param message the detail message describing the invalid token
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception when a continuation token is malformed.
+     *
+     * @param message the detail message describing the invalid token
+     * @param cause the underlying cause of the decoding failure
+     */
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
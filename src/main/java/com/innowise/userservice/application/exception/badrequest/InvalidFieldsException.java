@@ -0,0 +1,27 @@
+package com.innowise.userservice.application.exception.badrequest;
+
+import com.innowise.userservice.application.exception.BaseException;
+
+/**
+ * Exception thrown when a sparse fieldset names a field the resource does not have.
+ * Maps to HTTP 400 Bad Request response.
+ *
+ * @since 1.0
+ */
+public class InvalidFieldsException extends BaseException {
+    private final int statusCode = 400;
+
+    /**
+     * Constructs a new exception when a requested field is unknown.
+     *
+     * @param message the detail message naming the unknown fields
+     */
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
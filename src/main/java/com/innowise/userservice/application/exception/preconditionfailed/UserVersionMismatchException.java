@@ -0,0 +1,28 @@
+package com.innowise.userservice.application.exception.preconditionfailed;
+
+import com.innowise.userservice.application.exception.BaseException;
+
+/**
+ * Exception thrown when a conditional update names a user version that is no longer current.
+ * Maps to HTTP 412 Precondition Failed response.
+ *
+ * @since 1.0
+ */
+public class UserVersionMismatchException extends BaseException {
+
+    private final int statusCode = 412;
+
+    /**
+     * Constructs a new exception when the expected user version does not match the stored one.
+     *
+     * @param message the detail message describing the mismatch
+     */
+    public UserVersionMismatchException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
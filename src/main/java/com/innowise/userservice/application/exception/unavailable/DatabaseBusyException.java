@@ -0,0 +1,28 @@
+package com.innowise.userservice.application.exception.unavailable;
+
+import com.innowise.userservice.application.exception.BaseException;
+
+/**
+ * Exception thrown when a database call is shed because too many are already in progress.
+ * Maps to HTTP 503 Service Unavailable response.
+ *
+ * @since 1.0
+ */
+public class DatabaseBusyException extends BaseException {
+
+    private final int statusCode = 503;
+
+    /**
+     * Constructs a new exception when no database capacity became available in time.
+     *
+     * @param message the detail message describing the rejection
+     */
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
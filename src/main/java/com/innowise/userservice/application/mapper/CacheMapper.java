@@ -27,6 +27,16 @@ public interface CacheMapper {
      */
     UserCacheDto toUserCacheDto(User user);
 
+    /**
+     * Maps a {@link User} domain entity to a cards-free {@link UserCacheDto}.
+     * The entity's card collection is not accessed, so its cards need not be loaded.
+     *
+     * @param user The domain entity to convert.
+     * @return The DTO ready for caching, with {@code null} cards.
+     */
+    @Mapping(target = "cards", ignore = true)
+    UserCacheDto toUserProfileCacheDto(User user);
+
     /**
      * Maps a {@link UserCacheDto} from the cache back to a {@link User} domain entity.
      *
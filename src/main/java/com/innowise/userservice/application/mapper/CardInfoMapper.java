@@ -1,5 +1,6 @@
 package com.innowise.userservice.application.mapper;
 
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
 import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
 import com.innowise.userservice.application.dto.response.CardInfoResponse;
 import com.innowise.userservice.domain.entity.CardInfo;
@@ -36,4 +37,20 @@ public interface CardInfoMapper {
      * @return the response object to be sent to clients
      */
     CardInfoResponse toResponse(CardInfo cardInfo);
+
+    /**
+     * Maps a cached card to API response DTO.
+     *
+     * @param dto the cached card
+     * @return the response object to be sent to clients
+     */
+    CardInfoResponse toResponse(CardInfoCacheDto dto);
+
+    /**
+     * Maps API response DTO to its cacheable representation.
+     *
+     * @param response the card response
+     * @return the DTO ready for caching
+     */
+    CardInfoCacheDto toCacheDto(CardInfoResponse response);
 } 
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.innowise.userservice.application.mapper;
 import com.innowise.userservice.application.dto.request.CreateUserRequest;
 import com.innowise.userservice.application.dto.request.UpdateUserRequest;
 import com.innowise.userservice.application.dto.response.UserResponse;
+import com.innowise.userservice.domain.entity.CardInfo;
 import com.innowise.userservice.domain.entity.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -10,6 +11,8 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.BeanMapping;
 
+import java.util.List;
+
 /**
  * Mapper for converting between {@link CreateUserRequest}, {@link UpdateUserRequest}, {@link User}, and {@link UserResponse}.
  *
@@ -26,13 +29,14 @@ public interface UserMapper {
 
     /**
      * Converts {@link CreateUserRequest} to a new {@link User} entity.
-     * Incoming request ID and cards list are ignored and managed by persistence layer.
+     * Incoming request ID, cards list and version are ignored and managed by persistence layer.
      *
      * @param request the DTO containing user registration data
      * @return a new User entity ready for saving
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "cards", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toEntity(CreateUserRequest request);
     
     /**
@@ -44,6 +48,7 @@ public interface UserMapper {
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "cards", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntity(@MappingTarget User user, UpdateUserRequest request);
     
@@ -54,4 +59,15 @@ public interface UserMapper {
      * @return the response DTO with user data and card info
      */
     UserResponse toResponse(User user);
+
+    /**
+     * Converts {@link User} entity to {@link UserResponse} DTO using separately loaded cards.
+     * The entity's own card collection is not accessed.
+     *
+     * @param user the user entity
+     * @param cards the user's cards
+     * @return the response DTO with user data and the given card info
+     */
+    @Mapping(target = "cards", source = "cards")
+    UserResponse toResponse(User user, List<CardInfo> cards);
 } 
\ No newline at end of file
@@ -1,6 +1,11 @@
 package com.innowise.userservice.application.service;
 
+import com.innowise.userservice.application.dto.cache.CacheEntry;
+
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CacheService {
     /**
@@ -10,6 +15,31 @@ public interface CacheService {
      */
     void put(String key, Object value);
 
+    /**
+     * Store an object in cache with an explicit time-to-live.
+     * @param key cache key
+     * @param value any Serializable object
+     * @param ttl time-to-live of the entry
+     */
+    void put(String key, Object value, Duration ttl);
+
+    /**
+     * Store multiple objects in cache in a single round trip, each under the default time-to-live.
+     * @param entries cache keys mapped to the objects to store
+     */
+    void multiPut(Map<String, Object> entries);
+
+    /**
+     * Store multiple objects in cache in a single round trip.
+     * <p>
+     * Every entry is written with its own expiration, so the keys expire independently
+     * exactly as if they had been stored one by one.
+     *
+     * @param entries cache keys mapped to the objects to store
+     * @param ttl time-to-live applied to each entry
+     */
+    void multiPut(Map<String, Object> entries, Duration ttl);
+
     /**
      * Retrieve an object from cache by key and expected type.
      * @param key cache key
@@ -30,9 +60,45 @@ public interface CacheService {
      */
     <T> List<T> multiGet(List<String> keys, Class<T> type);
 
+    /**
+     * Retrieve an object from cache together with the moment its entry expires.
+     *
+     * @param key cache key
+     * @param type expected object type
+     * @param <T> type parameter
+     * @return the cached entry, or null if none exists
+     */
+    <T> CacheEntry<T> getEntry(String key, Class<T> type);
+
+    /**
+     * Retrieve multiple objects from cache together with the moments their entries expire.
+     *
+     * @param keys list of cache keys to retrieve
+     * @param type expected object type for all retrieved entries
+     * @param <T> type parameter
+     * @return a list of cached entries in the same order as the provided keys;
+     *         entries corresponding to missing keys will be null
+     */
+    <T> List<CacheEntry<T>> multiGetEntries(List<String> keys, Class<T> type);
+
+    /**
+     * Retrieve an object together with its expiry only if it is held in process, without a remote round trip.
+     * @param key   cache key
+     * @param type  expected class type of cached object
+     * @param <T>   type parameter
+     * @return      the cached entry, or null if it is not held in process
+     */
+    <T> CacheEntry<T> getLocalEntry(String key, Class<T> type);
+
     /**
      * Remove a specific key from cache.
      * @param key cache key
      */
     void evict(String key);
+
+    /**
+     * Remove multiple keys from cache in a single round trip.
+     * @param keys cache keys
+     */
+    void multiEvict(Collection<String> keys);
 }
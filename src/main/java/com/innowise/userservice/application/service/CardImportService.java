@@ -0,0 +1,27 @@
+package com.innowise.userservice.application.service;
+
+import com.innowise.userservice.application.dto.response.CardImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk loading card information.
+ *
+ * @since 1.0
+ */
+public interface CardImportService {
+    /**
+     * Imports cards from CSV with the header {@code user_id,number,holder,expiration_date}.
+     * <p>
+     * The input is read incrementally, so its size is not limited by memory. Rows that fail
+     * the same validation as single card creation, or that reference an unknown user, are
+     * skipped and reported. All other rows are written in chunks, each committed on its own,
+     * so chunks written before a failure stay imported.
+     *
+     * @param csv CSV input, UTF-8 encoded
+     * @return counts of imported and rejected rows as {@link CardImportResponse}
+     * @throws com.innowise.userservice.application.exception.badrequest.InvalidCsvHeaderException
+     *         if the input does not start with the expected header
+     */
+    CardImportResponse importCards(InputStream csv);
+}
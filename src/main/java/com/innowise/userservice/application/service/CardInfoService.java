@@ -1,6 +1,7 @@
 package com.innowise.userservice.application.service;
 
 import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
+import com.innowise.userservice.application.dto.response.CardBatchGetResponse;
 import com.innowise.userservice.application.dto.response.CardInfoResponse;
 import com.innowise.userservice.application.exception.notfound.CardNotFoundException;
 import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
@@ -41,6 +42,15 @@ public interface CardInfoService {
      */
     CardInfoResponse getCardInfoById(UUID id);
 
+    /**
+     * Retrieves many cards, reporting unknown identifiers instead of failing.
+     * Cached cards are served in one read; only the misses are queried.
+     *
+     * @param ids unique identifiers of the cards to retrieve
+     * @return the found cards and the identifiers of missing ones as {@link CardBatchGetResponse}
+     */
+    CardBatchGetResponse getCardInfosBatch(List<UUID> ids);
+
     /**
      * Retrieves all card information associated with a specific user.
      *
@@ -1,13 +1,21 @@
 package com.innowise.userservice.application.service;
 
+import com.innowise.userservice.application.dto.cache.UserJsonCacheDto;
 import com.innowise.userservice.application.dto.request.CreateUserRequest;
 import com.innowise.userservice.application.dto.request.UpdateUserRequest;
+import com.innowise.userservice.application.dto.response.UserBatchDeleteResponse;
+import com.innowise.userservice.application.dto.response.UserBatchGetResponse;
+import com.innowise.userservice.application.dto.response.UserCreationResult;
+import com.innowise.userservice.application.dto.response.UserPageResponse;
 import com.innowise.userservice.application.dto.response.UserResponse;
+import com.innowise.userservice.application.exception.badrequest.InvalidCursorException;
 import com.innowise.userservice.application.exception.alreadyexists.UserAlreadyExists;
 import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
+import com.innowise.userservice.application.exception.preconditionfailed.UserVersionMismatchException;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing user operations.
@@ -26,7 +34,18 @@ public interface UserService {
     UserResponse createUser(CreateUserRequest request);
 
     /**
-     * Updates an existing user's information.
+     * Creates many users in one statement.
+     * Items whose email is already taken, including by a concurrent request, or repeated earlier
+     * in the batch, are reported as conflicts and skipped; all other items are created.
+     *
+     * @param requests the user details for creation
+     * @return one {@link UserCreationResult} per request, in request order
+     */
+    List<UserCreationResult> createUsers(List<CreateUserRequest> requests);
+
+    /**
+     * Updates an existing user's information, whatever version it is currently at.
+     * The update is applied in a single statement, so concurrent changes to the user cannot make it fail.
      *
      * @param id unique identifier of the user to update
      * @param request the updated user details
@@ -36,6 +55,20 @@ public interface UserService {
      */
     UserResponse updateUser(UUID id, UpdateUserRequest request);
 
+    /**
+     * Updates an existing user's information only if the user is still at the expected version.
+     * The check and the update are applied in a single statement.
+     *
+     * @param id unique identifier of the user to update
+     * @param request the updated user details
+     * @param expectedVersion version of the user the caller last saw
+     * @return the updated user as {@link UserResponse}
+     * @throws UserNotFoundException if user with given id is not found
+     * @throws UserVersionMismatchException if the user has been modified since the expected version
+     * @throws UserAlreadyExists if updated email already exists for another user
+     */
+    UserResponse updateUser(UUID id, UpdateUserRequest request, long expectedVersion);
+
     /**
      * Deletes a user by their identifier.
      *
@@ -44,6 +77,15 @@ public interface UserService {
      */
     void deleteUser(UUID id);
 
+    /**
+     * Deletes many users and their cards in one statement and evicts their cache entries in one call.
+     * Identifiers of users that do not exist are ignored.
+     *
+     * @param ids unique identifiers of the users to delete
+     * @return the number of requested and deleted users as {@link UserBatchDeleteResponse}
+     */
+    UserBatchDeleteResponse deleteUsers(List<UUID> ids);
+
     /**
      * Retrieves a user by their identifier.
      *
@@ -54,11 +96,44 @@ public interface UserService {
     UserResponse getUserById(UUID id);
 
     /**
-     * Retrieves all users in the system.
+     * Retrieves a user by their identifier, optionally without their cards.
+     * Without cards no card query runs and a cards-free cache entry is used.
+     *
+     * @param id unique identifier of the user to retrieve
+     * @param withCards whether the user's cards are needed
+     * @return the user as {@link UserResponse}, with {@code null} cards unless requested
+     * @throws UserNotFoundException if user with given id is not found
+     */
+    UserResponse getUserById(UUID id, boolean withCards);
+
+    /**
+     * Retrieves the serialized JSON response of a user by their identifier.
+     * The body is cached next to the user aggregate and evicted with it, so a hit
+     * is returned without mapping or serializing the user again.
+     *
+     * @param id unique identifier of the user to retrieve
+     * @return the JSON body and version of the user as {@link UserJsonCacheDto}
+     * @throws UserNotFoundException if user with given id is not found
+     */
+    UserJsonCacheDto getUserJsonById(UUID id);
+
+    /**
+     * Retrieves one page of users ordered by id.
+     *
+     * @param cursor continuation token from the previous page, or {@code null} for the first page
+     * @param size maximum number of users on the page
+     * @return the page of users as {@link UserPageResponse}
+     * @throws InvalidCursorException if the continuation token is malformed
+     */
+    UserPageResponse getUsers(String cursor, int size);
+
+    /**
+     * Passes every user in the system to the given consumer, one at a time, in id order.
+     * Users are detached once consumed, so memory use does not grow with the number of users.
      *
-     * @return list of all users as {@link UserResponse}
+     * @param consumer receives each user as {@link UserResponse}
      */
-    List<UserResponse> getAllUsers();
+    void exportUsers(Consumer<UserResponse> consumer);
 
     /**
      * Retrieves a user by their email address.
@@ -69,6 +144,16 @@ public interface UserService {
      */
     UserResponse getUserByEmail(String email);
 
+    /**
+     * Retrieves a user by their email address, optionally without their cards.
+     *
+     * @param email email address of the user to retrieve
+     * @param withCards whether the user's cards are needed
+     * @return the user as {@link UserResponse}, with {@code null} cards unless requested
+     * @throws UserNotFoundException if user with given email is not found
+     */
+    UserResponse getUserByEmail(String email, boolean withCards);
+
     /**
      * Retrieves multiple users by their identifiers.
      *
@@ -76,4 +161,23 @@ public interface UserService {
      * @return list of found users as {@link UserResponse}
      */
     List<UserResponse> getAllUsersByIds(List<UUID> ids);
+
+    /**
+     * Retrieves multiple users by their identifiers, optionally without their cards.
+     *
+     * @param ids list of unique identifiers of users to retrieve
+     * @param withCards whether the users' cards are needed
+     * @return list of found users as {@link UserResponse}, with {@code null} cards unless requested
+     * @throws UserNotFoundException if any of the users is not found
+     */
+    List<UserResponse> getAllUsersByIds(List<UUID> ids, boolean withCards);
+
+    /**
+     * Retrieves many users with their cards, reporting unknown identifiers instead of failing.
+     * Cached users are served in one pipelined read; the rest are queried in chunks.
+     *
+     * @param ids unique identifiers of users to retrieve
+     * @return the found users and the identifiers of missing ones as {@link UserBatchGetResponse}
+     */
+    UserBatchGetResponse getUsersBatch(List<UUID> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,232 @@
+package com.innowise.userservice.application.service.impl;
+
+import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
+import com.innowise.userservice.application.dto.response.CardImportResponse;
+import com.innowise.userservice.application.exception.badrequest.InvalidCsvHeaderException;
+import com.innowise.userservice.application.service.CacheService;
+import com.innowise.userservice.application.service.CardImportService;
+import com.innowise.userservice.domain.entity.CardInfo;
+import com.innowise.userservice.domain.entity.User;
+import com.innowise.userservice.domain.entity.UuidV7Generator;
+import com.innowise.userservice.domain.repository.UserRepository;
+import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.infrastructure.persistence.CardInfoCopyWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class CardImportServiceImpl implements CardImportService {
+
+    private static final String HEADER = "user_id,number,holder,expiration_date";
+    private static final int COLUMN_COUNT = 4;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final UserRepository userRepository;
+    private final CardInfoCopyWriter cardInfoCopyWriter;
+    private final CacheService cacheService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CardImportServiceImpl(UserRepository userRepository,
+                                 CardInfoCopyWriter cardInfoCopyWriter,
+                                 CacheService cacheService,
+                                 Validator validator,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${card.import.chunk-size}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.cardInfoCopyWriter = cardInfoCopyWriter;
+        this.cacheService = cacheService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * No transaction is open while the input is read. Each chunk is checked and copied in its
+     * own short transaction, so a slow upload never holds a connection between chunks.
+     */
+    @Override
+    public CardImportResponse importCards(InputStream csv) {
+        log.debug("Starting card import");
+        final ImportState state = new ImportState();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            checkHeader(reader.readLine());
+            long lineNumber = 1;
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                ParsedRow row = parse(line, lineNumber, state);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, state);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            writeChunk(chunk, state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read card import", e);
+        } finally {
+            evictAffectedUsers(state);
+        }
+
+        log.info("Imported {} cards for {} users, rejected {} rows",
+                state.imported, state.affectedUserIds.size(), state.rejected);
+        return new CardImportResponse(state.imported, state.rejected, state.errors);
+    }
+
+    private static void checkHeader(String line) {
+        String header = line == null ? null : line.replace("\uFEFF", "").strip();
+        if (!HEADER.equalsIgnoreCase(header)) {
+            log.warn("Rejected card import with header: {}", header);
+            throw new InvalidCsvHeaderException("CSV must start with the header " + HEADER);
+        }
+    }
+
+    private void evictAffectedUsers(ImportState state) {
+        cacheService.multiEvict(state.affectedUserIds.stream()
+                .flatMap(userId -> CacheKeys.getUserKeys(userId).stream())
+                .toList());
+    }
+
+    private ParsedRow parse(String line, long lineNumber, ImportState state) {
+        List<String> columns = splitCsvLine(line);
+        if (columns.size() != COLUMN_COUNT) {
+            state.reject(lineNumber, "expected " + COLUMN_COUNT + " columns but found " + columns.size());
+            return null;
+        }
+
+        CreateCardInfoRequest request;
+        try {
+            request = new CreateCardInfoRequest(
+                    UUID.fromString(columns.get(0).trim()),
+                    columns.get(1).trim(),
+                    columns.get(2).trim(),
+                    LocalDate.parse(columns.get(3).trim()));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            state.reject(lineNumber, "unreadable value: " + e.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateCardInfoRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            state.reject(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return new ParsedRow(lineNumber, request);
+    }
+
+    private void writeChunk(List<ParsedRow> chunk, ImportState state) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> copyChunk(chunk, state));
+    }
+
+    private void copyChunk(List<ParsedRow> chunk, ImportState state) {
+        final Set<UUID> existingUserIds = userRepository.findExistingIds(chunk.stream()
+                .map(row -> row.request().userId())
+                .collect(Collectors.toSet()));
+
+        final List<CardInfo> cards = new ArrayList<>(chunk.size());
+        final Set<UUID> chunkUserIds = new HashSet<>();
+        for (ParsedRow row : chunk) {
+            CreateCardInfoRequest request = row.request();
+            if (!existingUserIds.contains(request.userId())) {
+                state.reject(row.lineNumber(), "user not found with id: " + request.userId());
+                continue;
+            }
+            cards.add(CardInfo.builder()
+                    .id(UuidV7Generator.generate())
+                    .user(User.builder().id(request.userId()).build())
+                    .number(request.number())
+                    .holder(request.holder())
+                    .expirationDate(request.expirationDate())
+                    .build());
+            chunkUserIds.add(request.userId());
+        }
+
+        state.imported += cardInfoCopyWriter.copy(cards);
+        if (!chunkUserIds.isEmpty()) {
+            userRepository.incrementVersions(chunkUserIds);
+        }
+        state.affectedUserIds.addAll(chunkUserIds);
+        log.debug("Copied chunk of {} cards", cards.size());
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    private record ParsedRow(long lineNumber, CreateCardInfoRequest request) {}
+
+    private static final class ImportState {
+        private final Set<UUID> affectedUserIds = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        private void reject(long lineNumber, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + lineNumber + ": " + reason);
+            }
+        }
+    }
+}
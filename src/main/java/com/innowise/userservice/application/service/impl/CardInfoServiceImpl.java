@@ -1,6 +1,8 @@
 package com.innowise.userservice.application.service.impl;
 
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
 import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
+import com.innowise.userservice.application.dto.response.CardBatchGetResponse;
 import com.innowise.userservice.application.dto.response.CardInfoResponse;
 import com.innowise.userservice.application.exception.notfound.CardNotFoundException;
 import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
@@ -12,25 +14,36 @@ import com.innowise.userservice.domain.entity.User;
 import com.innowise.userservice.domain.repository.CardInfoRepository;
 import com.innowise.userservice.domain.repository.UserRepository;
 import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.infrastructure.cache.NegativeCache;
+import com.innowise.userservice.infrastructure.persistence.PrimaryReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class CardInfoServiceImpl implements CardInfoService {
 
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final CardInfoRepository cardInfoRepository;
     private final UserRepository userRepository;
     private final CardInfoMapper cardInfoMapper;
     private final CacheService cacheService;
+    private final NegativeCache negativeCache;
+    private final PrimaryReader primaryReader;
 
     @Override
     @Transactional
@@ -45,10 +58,12 @@ public class CardInfoServiceImpl implements CardInfoService {
 
         CardInfo cardInfo = cardInfoMapper.toEntity(request, user);
         cardInfo = cardInfoRepository.save(cardInfo);
+        userRepository.incrementVersions(List.of(user.getId()));
         log.info("Successfully created card info with id: {} for user: {}", cardInfo.getId(), request.userId());
 
-        cacheService.evict(CacheKeys.getUserWithCardsKey(user.getId()));
+        cacheService.multiEvict(cardAndUserKeys(cardInfo.getId(), user.getId()));
         log.debug("Evicted user {} from cache", user.getId());
+        negativeCache.clear(CacheKeys.getMissingCardKey(cardInfo.getId()));
 
         return cardInfoMapper.toResponse(cardInfo);
     }
@@ -58,46 +73,122 @@ public class CardInfoServiceImpl implements CardInfoService {
     public void deleteCardInfo(UUID id) {
         log.debug("Attempting to delete card info with id: {}", id);
         
-        CardInfo cardInfo = cardInfoRepository.findById(id)
+        UUID userId = cardInfoRepository.deleteByIdReturningUserId(id)
                 .orElseThrow(() -> {
                     log.warn("Failed to delete card info - not found with id: {}", id);
                     return new CardNotFoundException("Card not found with id: " + id);
                 });
-        
-        UUID userId = cardInfo.getUser().getId();
-        
-        cardInfoRepository.deleteById(id);
+        userRepository.incrementVersions(List.of(userId));
         log.info("Successfully deleted card info with id: {}", id);
         
-        cacheService.evict(CacheKeys.getUserWithCardsKey(userId));
-        log.debug("Evicted user {} from cache due to card deletion", userId);
+        cacheService.multiEvict(cardAndUserKeys(id, userId));
+        log.debug("Evicted card {} and user {} from cache due to card deletion", id, userId);
     }
 
     @Override
     public CardInfoResponse getCardInfoById(UUID id) {
         log.debug("Retrieving card info by id: {}", id);
-        
-        return cardInfoRepository.findByIdJPQL(id)
-                .map(cardInfoMapper::toResponse)
+
+        final String key = CacheKeys.getCardKey(id);
+        final CardInfoCacheDto cachedCard = cacheService.get(key, CardInfoCacheDto.class);
+        if (cachedCard != null) {
+            log.debug("Found card in cache with id: {}", id);
+            return cardInfoMapper.toResponse(cachedCard);
+        }
+
+        final String missingKey = CacheKeys.getMissingCardKey(id);
+        if (negativeCache.isMissing(missingKey)) {
+            log.debug("Card id {} is negatively cached", id);
+            throw new CardNotFoundException("Card not found with id: " + id);
+        }
+
+        final CardInfoResponse card = primaryReader.read(() -> cardInfoRepository.findResponseById(id))
                 .orElseThrow(() -> {
                     log.warn("Card info not found with id: {}", id);
+                    negativeCache.markMissing(missingKey);
                     return new CardNotFoundException("Card not found with id: " + id);
                 });
+        cacheService.put(key, cardInfoMapper.toCacheDto(card));
+        return card;
+    }
+
+    @Override
+    public CardBatchGetResponse getCardInfosBatch(List<UUID> ids) {
+        final List<UUID> uniqueIds = ids.stream().distinct().toList();
+        log.debug("Retrieving batch of {} cards", uniqueIds.size());
+
+        final List<CardInfoCacheDto> cachedCards = cacheService.multiGet(uniqueIds.stream()
+                .map(CacheKeys::getCardKey)
+                .toList(), CardInfoCacheDto.class);
+        final Map<UUID, CardInfoResponse> foundCards = new HashMap<>();
+        final List<UUID> uncachedIds = new ArrayList<>();
+        for (int i = 0; i < uniqueIds.size(); i++) {
+            CardInfoCacheDto cachedCard = i < cachedCards.size() ? cachedCards.get(i) : null;
+            if (cachedCard != null) {
+                foundCards.put(uniqueIds.get(i), cardInfoMapper.toResponse(cachedCard));
+            } else {
+                uncachedIds.add(uniqueIds.get(i));
+            }
+        }
+
+        final Set<String> knownMissingKeys = negativeCache.findMissing(uncachedIds.stream()
+                .map(CacheKeys::getMissingCardKey)
+                .toList());
+        final List<UUID> idsToFetch = uncachedIds.stream()
+                .filter(id -> !knownMissingKeys.contains(CacheKeys.getMissingCardKey(id)))
+                .toList();
+        for (int from = 0; from < idsToFetch.size(); from += LOOKUP_CHUNK_SIZE) {
+            loadCardChunk(idsToFetch.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, idsToFetch.size())), foundCards);
+        }
+
+        final List<UUID> missing = uniqueIds.stream()
+                .filter(id -> !foundCards.containsKey(id))
+                .toList();
+        final List<String> notFoundKeys = missing.stream()
+                .map(CacheKeys::getMissingCardKey)
+                .filter(key -> !knownMissingKeys.contains(key))
+                .toList();
+        if (!notFoundKeys.isEmpty()) {
+            negativeCache.markMissing(notFoundKeys);
+        }
+
+        final List<CardInfoResponse> cards = uniqueIds.stream()
+                .map(foundCards::get)
+                .filter(Objects::nonNull)
+                .toList();
+        log.debug("Found {} cards, {} missing", cards.size(), missing.size());
+        return new CardBatchGetResponse(cards, missing);
+    }
+
+    /**
+     * Loads one chunk of cache misses from the primary with {@code findAllByIdsNative} and caches the found cards.
+     */
+    private void loadCardChunk(List<UUID> ids, Map<UUID, CardInfoResponse> foundCards) {
+        log.debug("Cache miss for {} card ids. Fetching from DB.", ids.size());
+        final Map<String, Object> toCache = new HashMap<>();
+        for (CardInfo cardInfo : primaryReader.read(() -> cardInfoRepository.findAllByIdsNative(ids))) {
+            CardInfoResponse card = cardInfoMapper.toResponse(cardInfo);
+            foundCards.put(card.id(), card);
+            toCache.put(CacheKeys.getCardKey(card.id()), cardInfoMapper.toCacheDto(card));
+        }
+        cacheService.multiPut(toCache);
+    }
+
+    private static List<String> cardAndUserKeys(UUID cardId, UUID userId) {
+        return Stream.concat(Stream.of(CacheKeys.getCardKey(cardId)), CacheKeys.getUserKeys(userId).stream())
+                .toList();
     }
 
     @Override
     public List<CardInfoResponse> getCardInfoByUserId(UUID userId) {
         log.debug("Retrieving all cards for user with id: {}", userId);
 
-        List<CardInfo> cards = cardInfoRepository.findByUserId(userId);
-        if (cards.isEmpty() && !userRepository.existsById(userId)) {
+        List<CardInfoResponse> cardResponses = cardInfoRepository.findResponsesByUserId(userId);
+        if (cardResponses.isEmpty() && !userRepository.existsById(userId)) {
             log.warn("Failed to retrieve cards - user not found with id: {}", userId);
             throw new UserNotFoundException("User not found with id: " + userId);
         }
 
-        List<CardInfoResponse> cardResponses = cards.stream()
-                .map(cardInfoMapper::toResponse)
-                .toList();
         log.info("Found {} cards for user with id: {}", cardResponses.size(), userId);
         return cardResponses;
     }
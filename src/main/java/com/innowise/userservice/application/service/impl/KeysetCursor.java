@@ -0,0 +1,50 @@
+package com.innowise.userservice.application.service.impl;
+
+import com.innowise.userservice.application.exception.badrequest.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes the last id of a keyset page as an opaque, URL-safe continuation token.
+ *
+ * @since 1.0
+ */
+final class KeysetCursor {
+
+    private static final int UUID_BYTES = 16;
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * @param lastId id of the last element on the current page
+     * @return continuation token for the following page
+     */
+    static String encode(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES)
+                .putLong(lastId.getMostSignificantBits())
+                .putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @param cursor continuation token returned with a previous page
+     * @return id after which the next page starts
+     * @throws InvalidCursorException if the token was not produced by {@link #encode(UUID)}
+     */
+    static UUID decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor, e);
+        }
+        if (bytes.length != UUID_BYTES) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
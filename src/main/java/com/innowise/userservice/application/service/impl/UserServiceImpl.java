@@ -1,80 +1,218 @@
 package com.innowise.userservice.application.service.impl;
 
+import com.innowise.userservice.application.dto.projection.DeletedUserRow;
+import com.innowise.userservice.application.dto.projection.UserCardRow;
 import com.innowise.userservice.application.dto.request.CreateUserRequest;
 import com.innowise.userservice.application.dto.request.UpdateUserRequest;
+import com.innowise.userservice.application.dto.response.CardInfoResponse;
+import com.innowise.userservice.application.dto.response.UserBatchDeleteResponse;
+import com.innowise.userservice.application.dto.response.UserBatchGetResponse;
+import com.innowise.userservice.application.dto.response.UserCreationResult;
+import com.innowise.userservice.application.dto.response.UserPageResponse;
 import com.innowise.userservice.application.dto.response.UserResponse;
 import com.innowise.userservice.application.mapper.UserMapper;
 import com.innowise.userservice.application.service.UserService;
+import com.innowise.userservice.domain.entity.CardInfo;
 import com.innowise.userservice.domain.entity.User;
+import com.innowise.userservice.domain.entity.UuidV7Generator;
+import com.innowise.userservice.domain.repository.CardInfoRepository;
 import com.innowise.userservice.domain.repository.UserRepository;
 import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
 import com.innowise.userservice.application.exception.alreadyexists.UserAlreadyExists;
+import com.innowise.userservice.application.exception.preconditionfailed.UserVersionMismatchException;
 import com.innowise.userservice.application.service.CacheService;
+import com.innowise.userservice.infrastructure.cache.BatchLoader;
+import com.innowise.userservice.infrastructure.cache.BatchLoaderFactory;
 import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.infrastructure.cache.EarlyRefresher;
+import com.innowise.userservice.infrastructure.cache.NegativeCache;
+import com.innowise.userservice.infrastructure.cache.SingleFlightLoader;
+import com.innowise.userservice.infrastructure.persistence.PrimaryReader;
+import com.innowise.userservice.application.dto.cache.CacheEntry;
 import com.innowise.userservice.application.dto.cache.UserCacheDto;
+import com.innowise.userservice.application.dto.cache.UserJsonCacheDto;
 import com.innowise.userservice.application.mapper.CacheMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
+    private static final int STATUS_CREATED = 201;
+    private static final int STATUS_CONFLICT = 409;
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final CardInfoRepository cardInfoRepository;
     private final UserMapper userMapper;
     private final CacheService cacheService;
     private final CacheMapper cacheMapper;
+    private final SingleFlightLoader singleFlightLoader;
+    private final NegativeCache negativeCache;
+    private final EarlyRefresher earlyRefresher;
+    private final EntityManager entityManager;
+    private final BatchLoaderFactory batchLoaderFactory;
+    private final ObjectMapper objectMapper;
+    private final PrimaryReader primaryReader;
+
+    private Optional<BatchLoader<UUID, UserCacheDto>> userLoader = Optional.empty();
+
+    @PostConstruct
+    void initLoaders() {
+        userLoader = batchLoaderFactory.create("user", this::loadUserBatch);
+    }
 
     @Override
     @Transactional
     public UserResponse createUser(CreateUserRequest request) {
         log.debug("Creating user with email: {}", request.email());
 
-        if (userRepository.existsByEmail(request.email())) {
+        User user = userMapper.toEntity(request);
+        user.setId(UuidV7Generator.generate());
+        user.setVersion(0L);
+        if (userRepository.insertIfEmailAbsent(user).isEmpty()) {
             log.warn("Attempt to create user with existing email: {}", request.email());
             throw new UserAlreadyExists("User with email " + request.email() + " already exists");
         }
-        
-        User user = userMapper.toEntity(request);
-        user = userRepository.save(user);
         log.info("Created new user with id: {}", user.getId());
+
+        negativeCache.clear(CacheKeys.getMissingUserKey(user.getId()));
         return userMapper.toResponse(user);
     }
 
+    @Override
+    @Transactional
+    public List<UserCreationResult> createUsers(List<CreateUserRequest> requests) {
+        log.debug("Creating batch of {} users", requests.size());
+        final long start = System.nanoTime();
+
+        final UserCreationResult[] results = new UserCreationResult[requests.size()];
+        final Set<String> batchEmails = new HashSet<>();
+        final List<User> users = new ArrayList<>();
+        final List<Integer> userIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String email = requests.get(i).email();
+            if (!batchEmails.add(email)) {
+                results[i] = emailConflict(i, email);
+                continue;
+            }
+            User user = userMapper.toEntity(requests.get(i));
+            user.setId(UuidV7Generator.generate());
+            user.setVersion(0L);
+            users.add(user);
+            userIndexes.add(i);
+        }
+
+        final Set<UUID> insertedIds = users.isEmpty() ? Set.of() : new HashSet<>(userRepository.insertAllIfEmailAbsent(
+                users.stream().map(User::getId).toArray(UUID[]::new),
+                users.stream().map(User::getName).toArray(String[]::new),
+                users.stream().map(User::getSurname).toArray(String[]::new),
+                users.stream().map(User::getBirthDate).toArray(LocalDate[]::new),
+                users.stream().map(User::getEmail).toArray(String[]::new)));
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            int index = userIndexes.get(i);
+            results[index] = insertedIds.contains(user.getId())
+                    ? new UserCreationResult(index, STATUS_CREATED, userMapper.toResponse(user), null)
+                    : emailConflict(index, user.getEmail());
+        }
+
+        final long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("Created {} of {} users in {} ms ({} rows/s)", insertedIds.size(), requests.size(),
+                elapsedMillis, insertedIds.size() * 1000L / elapsedMillis);
+        return Arrays.asList(results);
+    }
+
+    private static UserCreationResult emailConflict(int index, String email) {
+        return new UserCreationResult(index, STATUS_CONFLICT, null, "User with email " + email + " already exists");
+    }
+
     @Override
     @Transactional
     public UserResponse updateUser(UUID id, UpdateUserRequest request) {
         log.debug("Updating user with id: {}", id);
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Attempt to update non-existing user with id: {}", id);
-                    return new UserNotFoundException("User not found with id: " + id);
-                });
 
-        if (request.email() != null && !request.email().equals(user.getEmail()) &&
-                userRepository.existsByEmail(request.email())) {
+        final int updated;
+        try {
+            updated = userRepository.updateById(id,
+                    request.name(), request.surname(), request.birthDate(), request.email());
+        } catch (DataIntegrityViolationException e) {
             log.warn("Attempt to update user with existing email: {}", request.email());
-            throw new UserAlreadyExists("User with email " + request.email() + " already exists");
+            throw new UserAlreadyExists("User with email " + request.email() + " already exists", e);
         }
-        
-        userMapper.updateEntity(user, request);
-        user = userRepository.save(user);
-        log.info("Updated user with id: {}", user.getId());
 
-        cacheService.evict(CacheKeys.getUserWithCardsKey(user.getId()));
-        log.info("Evicted user with id: {}", user.getId());
-        
+        if (updated == 0) {
+            log.warn("Attempt to update non-existing user with id: {}", id);
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+        log.info("Updated user with id: {}", id);
+
+        cacheService.multiEvict(CacheKeys.getUserKeys(id));
+        log.info("Evicted user with id: {}", id);
+
+        User user = userRepository.findWithCardsById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
+        return userMapper.toResponse(user);
+    }
+
+    @Override
+    @Transactional
+    public UserResponse updateUser(UUID id, UpdateUserRequest request, long expectedVersion) {
+        log.debug("Updating user with id: {} at version: {}", id, expectedVersion);
+
+        final int updated;
+        try {
+            updated = userRepository.updateIfVersionMatches(id, expectedVersion,
+                    request.name(), request.surname(), request.birthDate(), request.email());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Attempt to update user with existing email: {}", request.email());
+            throw new UserAlreadyExists("User with email " + request.email() + " already exists", e);
+        }
+
+        if (updated == 0) {
+            if (!userRepository.existsById(id)) {
+                log.warn("Attempt to update non-existing user with id: {}", id);
+                throw new UserNotFoundException("User not found with id: " + id);
+            }
+            log.warn("Attempt to update user with id: {} at stale version: {}", id, expectedVersion);
+            throw new UserVersionMismatchException("User with id " + id + " has been modified since version " + expectedVersion);
+        }
+        log.info("Updated user with id: {}", id);
+
+        cacheService.multiEvict(CacheKeys.getUserKeys(id));
+        log.info("Evicted user with id: {}", id);
+
+        User user = userRepository.findWithCardsById(id)
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
         return userMapper.toResponse(user);
     }
 
@@ -83,82 +221,213 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(UUID id) {
         log.debug("Deleting user with id: {}", id);
 
-        if (!userRepository.existsById(id)) {
+        if (userRepository.lockByIdIn(List.of(id)).isEmpty()) {
             log.warn("Attempt to delete non-existing user with id: {}", id);
             throw new UserNotFoundException("User not found with id: " + id);
         }
-
-        userRepository.deleteById(id);
+        final List<DeletedUserRow> deletedRows = userRepository.deleteWithCardsByIdIn(List.of(id));
         log.info("Deleted user with id: {}", id);
 
-        cacheService.evict(CacheKeys.getUserWithCardsKey(id));
+        cacheService.multiEvict(Stream.concat(CacheKeys.getUserKeys(id).stream(), deletedCardKeys(deletedRows))
+                .toList());
         log.info("Evicted user and user cards with user id: {}", id);
     }
 
+    @Override
+    @Transactional
+    public UserBatchDeleteResponse deleteUsers(List<UUID> ids) {
+        final Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+        log.debug("Deleting batch of {} users", uniqueIds.size());
+
+        final List<UUID> lockedIds = userRepository.lockByIdIn(uniqueIds);
+        final List<DeletedUserRow> deletedRows = lockedIds.isEmpty()
+                ? List.of()
+                : userRepository.deleteWithCardsByIdIn(lockedIds);
+        final int deleted = (int) deletedRows.stream().filter(row -> row.getUserId() != null).count();
+        log.info("Deleted {} of {} requested users", deleted, uniqueIds.size());
+
+        cacheService.multiEvict(Stream.concat(
+                        uniqueIds.stream().flatMap(id -> CacheKeys.getUserKeys(id).stream()),
+                        deletedCardKeys(deletedRows))
+                .toList());
+        return new UserBatchDeleteResponse(uniqueIds.size(), deleted);
+    }
+
+    private static Stream<String> deletedCardKeys(List<DeletedUserRow> deletedRows) {
+        return deletedRows.stream()
+                .map(DeletedUserRow::getCardId)
+                .filter(Objects::nonNull)
+                .map(CacheKeys::getCardKey);
+    }
+
     @Override
     public UserResponse getUserById(UUID id) {
         log.debug("Fetching user with id: {}", id);
 
-        UserCacheDto cachedUser = cacheService.get(CacheKeys.getUserWithCardsKey(id), UserCacheDto.class);
-        
+        final String key = CacheKeys.getUserWithCardsKey(id);
+        if (userLoader.isPresent()) {
+            final CacheEntry<UserCacheDto> localEntry = cacheService.getLocalEntry(key, UserCacheDto.class);
+            if (localEntry != null) {
+                refreshIfExpiring(key, localEntry, id, true);
+                return userMapper.toResponse(cacheMapper.toUser(localEntry.value()));
+            }
+            final UserCacheDto batchedUser = userLoader.get().load(id);
+            if (batchedUser == null) {
+                log.warn("User not found with id: {}", id);
+                throw new UserNotFoundException("User not found with id: " + id);
+            }
+            return userMapper.toResponse(cacheMapper.toUser(batchedUser));
+        }
+
+        final CacheEntry<UserCacheDto> cachedEntry = cacheService.getEntry(key, UserCacheDto.class);
+        UserCacheDto cachedUser = cachedEntry != null ? cachedEntry.value() : null;
+
         if (cachedUser != null) {
             log.debug("Found user in cache with id: {}", id);
-            User user = cacheMapper.toUser(cachedUser);
-            return userMapper.toResponse(user);
+            refreshIfExpiring(key, cachedEntry, id, true);
+        } else {
+            log.debug("User not found in cache with id: {}", id);
+            cachedUser = singleFlightLoader.load(key, UserCacheDto.class, () -> loadAndCacheUser(id, true));
         }
 
-        log.debug("User not found in cache with id: {}", id);
-        
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("User not found with id: {}", id);
-                    return new UserNotFoundException("User not found with id: " + id);
-                });
+        User user = cacheMapper.toUser(cachedUser);
+        return userMapper.toResponse(user);
+    }
+
+    @Override
+    public UserResponse getUserById(UUID id, boolean withCards) {
+        if (withCards) {
+            return getUserById(id);
+        }
+        log.debug("Fetching profile of user with id: {}", id);
 
-        cacheService.put(CacheKeys.getUserWithCardsKey(id), cacheMapper.toUserCacheDto(user));
-        log.debug("Cached user and cards with id: {}", id);
+        final String key = CacheKeys.getUserProfileKey(id);
+        final CacheEntry<UserCacheDto> cachedEntry = cacheService.getEntry(key, UserCacheDto.class);
+        UserCacheDto cachedProfile = cachedEntry != null ? cachedEntry.value() : null;
 
-        return userMapper.toResponse(user);
+        if (cachedProfile != null) {
+            refreshIfExpiring(key, cachedEntry, id, false);
+        } else {
+            cachedProfile = singleFlightLoader.load(key, UserCacheDto.class, () -> loadAndCacheUser(id, false));
+        }
+        return userMapper.toResponse(cacheMapper.toUser(cachedProfile));
     }
 
     @Override
-    public List<UserResponse> getAllUsers() {
-        log.debug("Fetching all users");
+    public UserJsonCacheDto getUserJsonById(UUID id) {
+        final String key = CacheKeys.getUserJsonKey(id);
+        final UserJsonCacheDto cachedJson = cacheService.get(key, UserJsonCacheDto.class);
+        if (cachedJson != null) {
+            log.debug("Found user JSON in cache with id: {}", id);
+            return cachedJson;
+        }
 
-        List<UserResponse> users = userRepository.findAllWithCards().stream()
-                .map(userMapper::toResponse)
+        final UserResponse user = getUserById(id);
+        final UserJsonCacheDto userJson;
+        try {
+            userJson = new UserJsonCacheDto(user.version(), objectMapper.writeValueAsBytes(user));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize user with id: " + id, e);
+        }
+        cacheService.put(key, userJson);
+        log.debug("Cached user JSON with id: {}", id);
+        return userJson;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserPageResponse getUsers(String cursor, int size) {
+        log.debug("Fetching users page after cursor: {}", cursor);
+
+        final Limit limit = Limit.of(size + 1);
+        List<User> users = cursor == null || cursor.isBlank()
+                ? userRepository.findAllByOrderByIdAsc(limit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decode(cursor), limit);
+
+        final boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+
+        final Map<UUID, List<CardInfo>> cardsByUserId = users.isEmpty()
+                ? Map.of()
+                : cardInfoRepository.findByUserIdIn(users.stream().map(User::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(card -> card.getUser().getId()));
+
+        final List<UserResponse> content = users.stream()
+                .map(user -> userMapper.toResponse(user, cardsByUserId.getOrDefault(user.getId(), List.of())))
                 .toList();
+        final String nextCursor = hasNext ? KeysetCursor.encode(users.get(users.size() - 1).getId()) : null;
+
+        log.debug("Found {} users", content.size());
+        return new UserPageResponse(content, nextCursor);
+    }
 
-        log.debug("Found {} users", users.size());
-        return users;
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserResponse> consumer) {
+        log.debug("Exporting all users");
+
+        long exported = 0;
+        try (Stream<User> users = userRepository.streamAllWithCards()) {
+            Iterator<User> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                User user = iterator.next();
+                consumer.accept(userMapper.toResponse(user));
+                entityManager.detach(user);
+                exported++;
+            }
+        }
+
+        log.info("Exported {} users", exported);
     }
 
     @Override
     public UserResponse getUserByEmail(String email) {
         log.debug("Fetching user with email: {}", email);
 
-        return userRepository.findByEmail(email)
-                .map(userMapper::toResponse)
+        final List<UserCardRow> rows = userRepository.findRowsByEmail(email);
+        if (rows.isEmpty()) {
+            log.warn("User not found with email: {}", email);
+            throw new UserNotFoundException("User not found with email: " + email);
+        }
+        return toResponse(rows);
+    }
+
+    @Override
+    public UserResponse getUserByEmail(String email, boolean withCards) {
+        if (withCards) {
+            return getUserByEmail(email);
+        }
+        log.debug("Fetching profile of user with email: {}", email);
+
+        final User user = userRepository.findProfileByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("User not found with email: {}", email);
                     return new UserNotFoundException("User not found with email: " + email);
                 });
+        return userMapper.toResponse(user, null);
     }
 
     @Override
     public List<UserResponse> getAllUsersByIds(List<UUID> ids) {
+        return getAllUsersByIds(ids, true);
+    }
+
+    @Override
+    public List<UserResponse> getAllUsersByIds(List<UUID> ids, boolean withCards) {
         log.debug("Fetching users with ids: {}", ids);
 
         final List<UUID> uniqueIds = ids.stream().distinct().toList();
 
-        final Map<UUID, User> foundUsers = fetchFromCache(uniqueIds);
+        final Map<UUID, User> foundUsers = fetchFromCache(uniqueIds, withCards);
 
         final List<UUID> missingIds = uniqueIds.stream()
                 .filter(id -> !foundUsers.containsKey(id))
                 .toList();
 
         if (!missingIds.isEmpty()) {
-            resolveMissingUsers(missingIds, foundUsers);
+            resolveMissingUsers(missingIds, foundUsers, withCards);
         }
 
         List<UserResponse> responses = uniqueIds.stream()
@@ -170,23 +439,225 @@ public class UserServiceImpl implements UserService {
         return responses;
     }
 
-    private Map<UUID, User> fetchFromCache(List<UUID> ids) {
+    @Override
+    public UserBatchGetResponse getUsersBatch(List<UUID> ids) {
+        final List<UUID> uniqueIds = ids.stream().distinct().toList();
+        log.debug("Fetching batch of {} users", uniqueIds.size());
+
+        final Map<UUID, User> foundUsers = fetchFromCache(uniqueIds, true);
+        final List<UUID> uncachedIds = uniqueIds.stream()
+                .filter(id -> !foundUsers.containsKey(id))
+                .toList();
+
+        final Set<String> knownMissingKeys = negativeCache.findMissing(uncachedIds.stream()
+                .map(CacheKeys::getMissingUserKey)
+                .toList());
+        final List<UUID> idsToFetch = uncachedIds.stream()
+                .filter(id -> !knownMissingKeys.contains(CacheKeys.getMissingUserKey(id)))
+                .toList();
+        for (int from = 0; from < idsToFetch.size(); from += LOOKUP_CHUNK_SIZE) {
+            loadUserChunk(idsToFetch.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, idsToFetch.size())), foundUsers);
+        }
+
+        final List<UUID> missing = uniqueIds.stream()
+                .filter(id -> !foundUsers.containsKey(id))
+                .toList();
+        final List<String> notFoundKeys = missing.stream()
+                .map(CacheKeys::getMissingUserKey)
+                .filter(key -> !knownMissingKeys.contains(key))
+                .toList();
+        if (!notFoundKeys.isEmpty()) {
+            negativeCache.markMissing(notFoundKeys);
+        }
+
+        final List<UserResponse> users = uniqueIds.stream()
+                .map(foundUsers::get)
+                .filter(Objects::nonNull)
+                .map(userMapper::toResponse)
+                .toList();
+        log.debug("Found {} users, {} missing", users.size(), missing.size());
+        return new UserBatchGetResponse(users, missing);
+    }
+
+    private static UserResponse toResponse(List<UserCardRow> rows) {
+        final UserCardRow first = rows.get(0);
+        final List<CardInfoResponse> cards = rows.stream()
+                .filter(row -> row.cardId() != null)
+                .map(row -> new CardInfoResponse(row.cardId(), row.cardNumber(), row.cardHolder(), row.cardExpirationDate()))
+                .toList();
+        return new UserResponse(first.userId(), first.name(), first.surname(), first.birthDate(), first.email(), cards, null);
+    }
+
+    /**
+     * Loads a user from the primary database and caches it, with cards under the aggregate key
+     * or without them under the profile key. Without cards no card query runs.
+     */
+    private UserCacheDto loadAndCacheUser(UUID id, boolean withCards) {
+        final String missingKey = CacheKeys.getMissingUserKey(id);
+        if (negativeCache.isMissing(missingKey)) {
+            log.debug("User id {} is negatively cached", id);
+            throw new UserNotFoundException("User not found with id: " + id);
+        }
+
+        User user = primaryReader.read(() -> withCards ? userRepository.findWithCardsById(id) : userRepository.findById(id))
+                .orElseThrow(() -> {
+                    log.warn("User not found with id: {}", id);
+                    negativeCache.markMissing(missingKey);
+                    return new UserNotFoundException("User not found with id: " + id);
+                });
+
+        UserCacheDto userCacheDto = toCacheDto(user, withCards);
+        cacheService.put(userKey(id, withCards), userCacheDto);
+        log.debug("Cached user with id: {}, with cards: {}", id, withCards);
+        return userCacheDto;
+    }
+
+    private UserCacheDto toCacheDto(User user, boolean withCards) {
+        return withCards ? cacheMapper.toUserCacheDto(user) : cacheMapper.toUserProfileCacheDto(user);
+    }
+
+    private static String userKey(UUID id, boolean withCards) {
+        return withCards ? CacheKeys.getUserWithCardsKey(id) : CacheKeys.getUserProfileKey(id);
+    }
+
+    /**
+     * Loads a batch of users collected by the user loader: one pipelined cache read for all
+     * ids, then one query for the ids that missed the cache and are not negatively cached.
+     * Cache hits and negatively cached ids are reported before the query runs, so a failing
+     * query fails only the ids that needed it. Users that do not exist are reported as
+     * {@code null} and recorded in the negative cache.
+     */
+    private void loadUserBatch(List<UUID> ids, BiConsumer<UUID, UserCacheDto> results) {
         final List<String> keys = ids.stream().map(CacheKeys::getUserWithCardsKey).toList();
-        final List<UserCacheDto> cachedDtos = cacheService.multiGet(keys, UserCacheDto.class);
+        final List<CacheEntry<UserCacheDto>> cachedEntries = cacheService.multiGetEntries(keys, UserCacheDto.class);
 
-        final Map<UUID, User> cachedUsers = new HashMap<>();
+        final List<UUID> missingIds = new ArrayList<>();
         for (int i = 0; i < ids.size(); i++) {
-            UserCacheDto dto = cachedDtos.get(i);
-            if (dto != null) {
-                cachedUsers.put(ids.get(i), cacheMapper.toUser(dto));
+            CacheEntry<UserCacheDto> entry = i < cachedEntries.size() ? cachedEntries.get(i) : null;
+            if (entry != null && entry.value() != null) {
+                results.accept(ids.get(i), entry.value());
+                refreshIfExpiring(keys.get(i), entry, ids.get(i), true);
+            } else {
+                missingIds.add(ids.get(i));
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        final Set<String> knownMissingKeys = negativeCache.findMissing(missingIds.stream()
+                .map(CacheKeys::getMissingUserKey)
+                .toList());
+        final List<UUID> idsToFetch = new ArrayList<>();
+        for (UUID id : missingIds) {
+            if (knownMissingKeys.contains(CacheKeys.getMissingUserKey(id))) {
+                results.accept(id, null);
+            } else {
+                idsToFetch.add(id);
+            }
+        }
+        if (idsToFetch.isEmpty()) {
+            return;
+        }
+
+        log.debug("Cache miss for user ids: {}. Fetching from DB.", idsToFetch);
+        final Map<String, Object> toCache = new HashMap<>();
+        final Set<UUID> foundIds = new HashSet<>();
+        for (User user : primaryReader.read(() -> userRepository.findAllByIdIn(idsToFetch))) {
+            UserCacheDto userCacheDto = cacheMapper.toUserCacheDto(user);
+            results.accept(user.getId(), userCacheDto);
+            foundIds.add(user.getId());
+            toCache.put(CacheKeys.getUserWithCardsKey(user.getId()), userCacheDto);
+        }
+        final List<String> notFoundKeys = new ArrayList<>();
+        for (UUID id : idsToFetch) {
+            if (!foundIds.contains(id)) {
+                results.accept(id, null);
+                notFoundKeys.add(CacheKeys.getMissingUserKey(id));
+            }
+        }
+
+        cacheService.multiPut(toCache);
+        if (!notFoundKeys.isEmpty()) {
+            log.warn("Users not found for negative keys: {}", notFoundKeys);
+            negativeCache.markMissing(notFoundKeys);
+        }
+    }
+
+    /**
+     * Loads one chunk of users and their cards with two array-parameter queries and caches
+     * the aggregates. Both queries read one snapshot, so a cached aggregate never mixes a
+     * user with cards from a different moment. Users that do not exist are simply absent
+     * from {@code foundUsers}.
+     */
+    private void loadUserChunk(List<UUID> ids, Map<UUID, User> foundUsers) {
+        final UUID[] idArray = ids.toArray(UUID[]::new);
+        final UserChunk chunk = primaryReader.readSnapshot(() -> {
+            final List<User> users = userRepository.findProfilesByIdArray(idArray);
+            if (users.isEmpty()) {
+                return new UserChunk(users, Map.of());
+            }
+            final UUID[] userIdArray = users.stream().map(User::getId).toArray(UUID[]::new);
+            return new UserChunk(users, cardInfoRepository.findByUserIdArray(userIdArray).stream()
+                    .collect(Collectors.groupingBy(card -> card.getUser().getId())));
+        });
+        if (chunk.users().isEmpty()) {
+            return;
+        }
+
+        final Map<String, Object> toCache = new HashMap<>();
+        for (User user : chunk.users()) {
+            UserCacheDto userCacheDto = cacheMapper.toUserProfileCacheDto(user);
+            userCacheDto.setCards(chunk.cardsByUserId().getOrDefault(user.getId(), List.of()).stream()
+                    .map(cacheMapper::toCardCacheDto)
+                    .toList());
+            foundUsers.put(user.getId(), cacheMapper.toUser(userCacheDto));
+            toCache.put(CacheKeys.getUserWithCardsKey(user.getId()), userCacheDto);
+        }
+        cacheService.multiPut(toCache);
+    }
+
+    private record UserChunk(List<User> users, Map<UUID, List<CardInfo>> cardsByUserId) {
+    }
+
+    private void refreshIfExpiring(String key, CacheEntry<UserCacheDto> entry, UUID id, boolean withCards) {
+        if (earlyRefresher.shouldRefresh(entry)) {
+            log.debug("Refreshing user with id {} ahead of cache expiry", id);
+            earlyRefresher.refreshInBackground(key, () -> loadAndCacheUser(id, withCards));
+        }
+    }
+
+    private Map<UUID, User> fetchFromCache(List<UUID> ids, boolean withCards) {
+        final List<String> keys = ids.stream().map(id -> userKey(id, withCards)).toList();
+        final List<CacheEntry<UserCacheDto>> cachedEntries = cacheService.multiGetEntries(keys, UserCacheDto.class);
+
+        final Map<UUID, User> cachedUsers = new HashMap<>();
+        for (int i = 0; i < ids.size() && i < cachedEntries.size(); i++) {
+            CacheEntry<UserCacheDto> entry = cachedEntries.get(i);
+            if (entry != null && entry.value() != null) {
+                cachedUsers.put(ids.get(i), cacheMapper.toUser(entry.value()));
+                refreshIfExpiring(keys.get(i), entry, ids.get(i), withCards);
             }
         }
         return cachedUsers;
     }
 
-    private void resolveMissingUsers(List<UUID> idsToFetch, Map<UUID, User> foundUsers) {
+    private void resolveMissingUsers(List<UUID> idsToFetch, Map<UUID, User> foundUsers, boolean withCards) {
+        final Set<String> knownMissingKeys = negativeCache.findMissing(idsToFetch.stream()
+                .map(CacheKeys::getMissingUserKey)
+                .toList());
+        if (!knownMissingKeys.isEmpty()) {
+            final List<UUID> knownMissingIds = idsToFetch.stream()
+                    .filter(id -> knownMissingKeys.contains(CacheKeys.getMissingUserKey(id)))
+                    .toList();
+            log.warn("Users not found with ids: {}", knownMissingIds);
+            throw new UserNotFoundException("Users not found with ids: " + knownMissingIds);
+        }
+
         log.debug("Cache miss for user ids: {}. Fetching from DB.", idsToFetch);
-        final List<User> usersFromDb = userRepository.findAllByIdIn(idsToFetch);
+        final List<User> usersFromDb = primaryReader.read(() -> withCards
+                ? userRepository.findAllByIdIn(idsToFetch)
+                : userRepository.findProfilesByIdIn(idsToFetch));
 
         if (usersFromDb.size() != idsToFetch.size()) {
             final Set<UUID> foundDbIds = usersFromDb.stream()
@@ -196,12 +667,18 @@ public class UserServiceImpl implements UserService {
                     .filter(id -> !foundDbIds.contains(id))
                     .toList();
             log.warn("Users not found with ids: {}", notFoundIds);
+            negativeCache.markMissing(notFoundIds.stream()
+                    .map(CacheKeys::getMissingUserKey)
+                    .toList());
             throw new UserNotFoundException("Users not found with ids: " + notFoundIds);
         }
 
+        final Map<String, Object> cacheEntries = new HashMap<>();
         usersFromDb.forEach(user -> {
-            foundUsers.put(user.getId(), user);
-            cacheService.put(CacheKeys.getUserWithCardsKey(user.getId()), cacheMapper.toUserCacheDto(user));
+            UserCacheDto userCacheDto = toCacheDto(user, withCards);
+            foundUsers.put(user.getId(), withCards ? user : cacheMapper.toUser(userCacheDto));
+            cacheEntries.put(userKey(user.getId(), withCards), userCacheDto);
         });
+        cacheService.multiPut(cacheEntries);
     }
 } 
\ No newline at end of file
@@ -6,8 +6,9 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -22,12 +23,14 @@ import java.util.UUID;
  * <p>
  * Contains personal information about the user and maintains
  * a relationship with their credit cards. All modifications to
- * associated cards are cascaded.
+ * associated cards are cascaded. Cards are loaded lazily unless a
+ * read uses the {@value #WITH_CARDS_GRAPH} entity graph.
  *
  * @since 1.0
  */
 @Entity
 @Table(name = "users")
+@NamedEntityGraph(name = User.WITH_CARDS_GRAPH, attributeNodes = @NamedAttributeNode("cards"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,10 +39,15 @@ import java.util.UUID;
 public class User {
 
     /**
-     * Unique identifier for the user.
+     * Name of the entity graph that loads the user together with their cards in one statement.
+     */
+    public static final String WITH_CARDS_GRAPH = "User.withCards";
+
+    /**
+     * Unique identifier for the user, generated as a time-ordered UUID.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     /**
@@ -77,4 +85,13 @@ public class User {
      */
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CardInfo> cards;
+
+    /**
+     * Optimistic-locking version of the user and their cards.
+     * Incremented on every profile update and on every card added to or removed from the user,
+     * and exposed to clients as the entity tag.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -0,0 +1,65 @@
+package com.innowise.userservice.domain.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates version 7 UUIDs as defined by RFC 9562.
+ * <p>
+ * The most significant 48 bits hold the Unix timestamp in milliseconds, followed by the
+ * version, a 12-bit counter and 62 random bits. Ids generated later sort after earlier ones,
+ * so new rows are appended to the right-hand side of primary-key and foreign-key indexes
+ * instead of landing on random pages. The counter keeps ids monotonic within a millisecond
+ * on one node; when it overflows, the timestamp is advanced by one millisecond.
+ * <p>
+ * The values are ordinary UUIDs, so existing version 4 ids remain valid alongside them.
+ *
+ * @since 1.0
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    /**
+     * Creates a new time-ordered UUID.
+     *
+     * @return version 7 UUID
+     */
+    public static UUID generate() {
+        long tick = nextTick();
+        long timestamp = tick >>> COUNTER_BITS;
+        long counter = tick & ((1L << COUNTER_BITS) - 1);
+        long mostSignificantBits = (timestamp << 16) | VERSION | counter;
+        long leastSignificantBits = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private static long nextTick() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        return LAST_TICK.updateAndGet(last -> Math.max(now, last + 1));
+    }
+}
@@ -1,11 +1,14 @@
 package com.innowise.userservice.domain.repository;
 
+import com.innowise.userservice.application.dto.response.CardInfoResponse;
 import com.innowise.userservice.domain.entity.CardInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,20 +16,25 @@ import java.util.UUID;
 /**
  * Repository interface for managing {@link CardInfo} entities.
  * Provides JPA operations and custom queries for card information.
+ * <p>
+ * Every method runs in its own read-only transaction unless the caller already has one,
+ * so services can call it without holding a connection for the whole request.
  *
  * @since 1.0
  */
 @Repository
+@Transactional(readOnly = true)
 public interface CardInfoRepository extends JpaRepository<CardInfo, UUID> {
 
     /**
-     * Retrieves a card by its identifier using JPQL query.
+     * Retrieves a card by its identifier projected directly into the response DTO.
      *
      * @param id unique identifier of the card to retrieve
      * @return an {@link Optional} containing the found card or empty if not found
      */
-    @Query("SELECT c FROM CardInfo c WHERE c.id = :id")
-    Optional<CardInfo> findByIdJPQL(@Param("id") UUID id);
+    @Query("SELECT new com.innowise.userservice.application.dto.response.CardInfoResponse("
+            + "c.id, c.number, c.holder, c.expirationDate) FROM CardInfo c WHERE c.id = :id")
+    Optional<CardInfoResponse> findResponseById(@Param("id") UUID id);
 
     /**
      * Retrieves multiple cards by their identifiers using native SQL query.
@@ -38,10 +46,40 @@ public interface CardInfoRepository extends JpaRepository<CardInfo, UUID> {
     List<CardInfo> findAllByIdsNative(@Param("ids") List<UUID> ids);
 
     /**
-     * Retrieves all cards associated with a specific user.
+     * Retrieves all cards associated with a specific user projected directly into response DTOs.
      *
      * @param userId unique identifier of the user whose cards to retrieve
      * @return list of cards belonging to the specified user
      */
-    List<CardInfo> findByUserId(UUID userId);
-}
+    @Query("SELECT new com.innowise.userservice.application.dto.response.CardInfoResponse("
+            + "c.id, c.number, c.holder, c.expirationDate) FROM CardInfo c WHERE c.user.id = :userId")
+    List<CardInfoResponse> findResponsesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Retrieves all cards associated with any of the given users.
+     *
+     * @param userIds unique identifiers of the users whose cards to retrieve
+     * @return list of cards belonging to the specified users
+     */
+    List<CardInfo> findByUserIdIn(Collection<UUID> userIds);
+
+    /**
+     * Retrieves all cards associated with any of the given users, binding the user
+     * identifiers as one array parameter.
+     *
+     * @param userIds unique identifiers of the users whose cards to retrieve
+     * @return list of cards belonging to the specified users
+     */
+    @Query(value = "SELECT * FROM card_info WHERE user_id = ANY(:userIds)", nativeQuery = true)
+    List<CardInfo> findByUserIdArray(@Param("userIds") UUID[] userIds);
+
+    /**
+     * Deletes a card by its identifier in one statement, without loading it first.
+     *
+     * @param id unique identifier of the card to delete
+     * @return the identifier of the user who owned the deleted card, or empty if no card had the id
+     */
+    @Transactional
+    @Query(value = "DELETE FROM card_info WHERE id = :id RETURNING user_id", nativeQuery = true)
+    Optional<UUID> deleteByIdReturningUserId(@Param("id") UUID id);
+}
\ No newline at end of file
@@ -1,48 +1,264 @@
 package com.innowise.userservice.domain.repository;
 
+import com.innowise.userservice.application.dto.projection.DeletedUserRow;
+import com.innowise.userservice.application.dto.projection.UserCardRow;
 import com.innowise.userservice.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link User} entities.
  * Provides JPA operations and custom queries for user management.
+ * <p>
+ * Every method runs in its own read-only transaction unless the caller already has one,
+ * so services can call it without holding a connection for the whole request.
  *
  * @since 1.0
  */
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
-     * Retrieves a user by their email address.
+     * Retrieves a user by their email address without loading the associated cards.
      *
      * @param email email address of the user to retrieve
      * @return an {@link Optional} containing the found user or empty if not found
      */
-    Optional<User> findByEmail(String email);
+    Optional<User> findProfileByEmail(String email);
 
     /**
-     * Retrieves multiple users by their identifiers.
+     * Retrieves a user by their email address as flat user-card rows, without loading entities.
+     *
+     * @param email email address of the user to retrieve
+     * @return one row per card of the user, a single row with empty card columns if the user
+     *         has no cards, or an empty list if no user has the email
+     */
+    @Query("SELECT new com.innowise.userservice.application.dto.projection.UserCardRow("
+            + "u.id, u.name, u.surname, u.birthDate, u.email, c.id, c.number, c.holder, c.expirationDate) "
+            + "FROM User u LEFT JOIN u.cards c WHERE u.email = :email")
+    List<UserCardRow> findRowsByEmail(@Param("email") String email);
+
+    /**
+     * Retrieves a user by their identifier with the associated cards eagerly loaded.
+     * The result can be mapped outside a transaction, e.g. by background cache refreshes.
+     *
+     * @param id unique identifier of the user to retrieve
+     * @return an {@link Optional} containing the found user with cards or empty if not found
+     */
+    @EntityGraph(User.WITH_CARDS_GRAPH)
+    Optional<User> findWithCardsById(UUID id);
+
+    /**
+     * Retrieves multiple users by their identifiers with the associated cards eagerly loaded.
      *
      * @param ids list of unique identifiers of users to retrieve
-     * @return list of found users
+     * @return list of found users with their cards
      */
+    @EntityGraph(User.WITH_CARDS_GRAPH)
     List<User> findAllByIdIn(List<UUID> ids);
 
     /**
-     * Retrieves all users with their associated cards eagerly loaded.
-     * Uses LEFT JOIN FETCH to avoid N+1 query problem.
+     * Retrieves multiple users by their identifiers without loading the associated cards.
      *
-     * @return list of all users with their cards
+     * @param ids list of unique identifiers of users to retrieve
+     * @return list of found users
      */
-    @Query("SELECT u FROM User u LEFT JOIN FETCH u.cards")
-    List<User> findAllWithCards();
+    List<User> findProfilesByIdIn(Collection<UUID> ids);
+
+    /**
+     * Retrieves the users with any of the given identifiers, without their cards.
+     * The identifiers are bound as one array parameter, so the statement text is the same
+     * for every batch size and Postgres can reuse its plan.
+     *
+     * @param ids unique identifiers of users to retrieve
+     * @return list of found users
+     */
+    @Query(value = "SELECT * FROM users WHERE id = ANY(:ids)", nativeQuery = true)
+    List<User> findProfilesByIdArray(@Param("ids") UUID[] ids);
+
+    /**
+     * Retrieves the first users in id order, without their cards.
+     *
+     * @param limit maximum number of users to return
+     * @return list of users ordered by id
+     */
+    List<User> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Retrieves the users whose id follows the given one in id order, without their cards.
+     * Used for keyset pagination, so the cost of a page does not depend on its position.
+     *
+     * @param id id of the last user on the previous page
+     * @param limit maximum number of users to return
+     * @return list of users ordered by id
+     */
+    List<User> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    /**
+     * Streams all users with their associated cards in id order.
+     * Rows are read through a server-side cursor in chunks of the configured fetch size and
+     * loaded read-only; the stream must be consumed and closed inside a transaction.
+     *
+     * @return stream of all users with their cards
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.cards ORDER BY u.id")
+    Stream<User> streamAllWithCards();
     
+    /**
+     * Inserts the given user unless another user already has the same email, in one statement.
+     * The unique email index arbitrates concurrent inserts, so exactly one of several
+     * simultaneous inserts with the same email succeeds and the others see an empty result.
+     *
+     * @param user user to insert; its identifier and initial version must already be assigned
+     * @return the identifier of the inserted user, or empty if the email is already taken
+     */
+    @Transactional
+    @Query(value = "INSERT INTO users (id, name, surname, birth_date, email, version) "
+            + "VALUES (:#{#user.id}, :#{#user.name}, :#{#user.surname}, :#{#user.birthDate}, :#{#user.email}, "
+            + ":#{#user.version}) "
+            + "ON CONFLICT (email) DO NOTHING RETURNING id",
+            nativeQuery = true)
+    Optional<UUID> insertIfEmailAbsent(@Param("user") User user);
+
+    /**
+     * Inserts the given users at version {@code 0} in one statement, skipping every user whose
+     * email is already taken. The arrays are read position by position, one user per index.
+     * As with {@link #insertIfEmailAbsent}, the unique email index arbitrates concurrent inserts,
+     * so a user losing a race is skipped instead of failing the statement.
+     *
+     * @param ids identifiers of the users to insert
+     * @param names first names of the users
+     * @param surnames last names of the users
+     * @param birthDates dates of birth of the users
+     * @param emails email addresses of the users
+     * @return the identifiers of the inserted users; users with a taken email are left out
+     */
+    @Transactional
+    @Query(value = "INSERT INTO users (id, name, surname, birth_date, email, version) "
+            + "SELECT id, name, surname, birth_date, email, 0 FROM unnest(CAST(:ids AS uuid[]), "
+            + "CAST(:names AS varchar[]), CAST(:surnames AS varchar[]), CAST(:birthDates AS date[]), "
+            + "CAST(:emails AS varchar[])) AS u(id, name, surname, birth_date, email) "
+            + "ON CONFLICT (email) DO NOTHING RETURNING id",
+            nativeQuery = true)
+    List<UUID> insertAllIfEmailAbsent(@Param("ids") UUID[] ids,
+                                      @Param("names") String[] names,
+                                      @Param("surnames") String[] surnames,
+                                      @Param("birthDates") LocalDate[] birthDates,
+                                      @Param("emails") String[] emails);
+
+    /**
+     * Applies a partial profile update only if the user is still at the expected version,
+     * incrementing the version in the same statement. Fields passed as {@code null} keep
+     * their stored values.
+     *
+     * @param id unique identifier of the user to update
+     * @param version version the caller last saw
+     * @param name new first name, or {@code null} to keep the current one
+     * @param surname new last name, or {@code null} to keep the current one
+     * @param birthDate new date of birth, or {@code null} to keep the current one
+     * @param email new email address, or {@code null} to keep the current one
+     * @return the number of updated rows, {@code 0} if the user does not exist or has a different version
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.name = COALESCE(:name, u.name), u.surname = COALESCE(:surname, u.surname), "
+            + "u.birthDate = COALESCE(:birthDate, u.birthDate), u.email = COALESCE(:email, u.email), "
+            + "u.version = u.version + 1 WHERE u.id = :id AND u.version = :version")
+    int updateIfVersionMatches(@Param("id") UUID id,
+                               @Param("version") long version,
+                               @Param("name") String name,
+                               @Param("surname") String surname,
+                               @Param("birthDate") LocalDate birthDate,
+                               @Param("email") String email);
+
+    /**
+     * Applies a partial profile update regardless of the stored version, incrementing the
+     * version in the same statement. Fields passed as {@code null} keep their stored values.
+     * Unlike a load-and-save of the versioned entity, a concurrent change to the same user
+     * cannot make this update fail.
+     *
+     * @param id unique identifier of the user to update
+     * @param name new first name, or {@code null} to keep the current one
+     * @param surname new last name, or {@code null} to keep the current one
+     * @param birthDate new date of birth, or {@code null} to keep the current one
+     * @param email new email address, or {@code null} to keep the current one
+     * @return the number of updated rows, {@code 0} if the user does not exist
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.name = COALESCE(:name, u.name), u.surname = COALESCE(:surname, u.surname), "
+            + "u.birthDate = COALESCE(:birthDate, u.birthDate), u.email = COALESCE(:email, u.email), "
+            + "u.version = u.version + 1 WHERE u.id = :id")
+    int updateById(@Param("id") UUID id,
+                   @Param("name") String name,
+                   @Param("surname") String surname,
+                   @Param("birthDate") LocalDate birthDate,
+                   @Param("email") String email);
+
+    /**
+     * Increments the version of the given users, e.g. after their cards changed, so that
+     * entity tags handed out for their previous state no longer match.
+     *
+     * @param ids unique identifiers of the users whose version to increment
+     * @return the number of updated users
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.version = u.version + 1 WHERE u.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Locks the rows of the given users until the end of the current transaction, in id order.
+     * Card inserts for a locked user wait for the lock, so a delete that follows in the same
+     * transaction sees every card of the locked users.
+     *
+     * @param ids unique identifiers of the users to lock
+     * @return the identifiers of the locked users; identifiers of missing users are left out
+     */
+    @Transactional
+    @Query(value = "SELECT id FROM users WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<UUID> lockByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Deletes the given users together with their cards in one statement, without loading them.
+     * The statement returns what it deleted, so the caller learns the deleted cards of exactly
+     * the users it removed. Both deletes read one snapshot: a card committed after it is not
+     * deleted and fails the user delete, so the users must be locked with {@link #lockByIdIn}
+     * in the same transaction first.
+     *
+     * @param ids unique identifiers of the users to delete
+     * @return one row per deleted user and one per deleted card; identifiers of missing users yield no row
+     */
+    @Transactional
+    @Query(value = "WITH deleted_cards AS (DELETE FROM card_info WHERE user_id IN (:ids) RETURNING id), "
+            + "deleted_users AS (DELETE FROM users WHERE id IN (:ids) RETURNING id) "
+            + "SELECT id AS \"userId\", CAST(NULL AS uuid) AS \"cardId\" FROM deleted_users "
+            + "UNION ALL SELECT CAST(NULL AS uuid), id FROM deleted_cards",
+            nativeQuery = true)
+    List<DeletedUserRow> deleteWithCardsByIdIn(@Param("ids") Collection<UUID> ids);
+
     /**
      * Checks if a user with the given email exists.
      *
@@ -50,4 +266,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return true if a user with the email exists, false otherwise
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Returns which of the given identifiers belong to an existing user.
+     *
+     * @param ids unique identifiers to check
+     * @return the subset of the given identifiers that exist
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,203 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Coalesces concurrent single-key lookups into batched loads.
+ * <p>
+ * Keys requested within one batch window are collected and passed to the batch function
+ * together, so many concurrent lookups cost one round trip to each backing store instead
+ * of one per lookup. A batch is dispatched when its window elapses or when it reaches the
+ * maximum size, whichever comes first. Duplicate keys within a batch share one result.
+ * <p>
+ * Every caller waits only for its own key. The batch function reports each value as soon as
+ * it is known, so e.g. cache hits are released before the batch queries the database for
+ * the misses. A key the batch function never reports completes with {@code null}, and a
+ * failure of the batch function fails only the keys not reported before it.
+ * <p>
+ * A caller whose batch was rejected by the executor, or has not completed within the
+ * maximum wait, loads its key on its own thread, as it would with batching disabled.
+ * Dispatched batch sizes are recorded in the distribution summary supplied by the caller.
+ *
+ * @param <K> type of the lookup key
+ * @param <V> type of the loaded value
+ * @see BatchLoaderFactory
+ * @since 1.0
+ */
+@Slf4j
+public class BatchLoader<K, V> {
+
+    /**
+     * Loads the values for a batch of distinct keys.
+     *
+     * @param <K> type of the lookup key
+     * @param <V> type of the loaded value
+     */
+    @FunctionalInterface
+    public interface BatchFunction<K, V> {
+
+        /**
+         * @param keys distinct keys to load
+         * @param results receives each key with its value, or {@code null} if it has none,
+         *                as soon as the value is known
+         */
+        void load(List<K> keys, BiConsumer<K, V> results);
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final BatchFunction<K, V> batchFunction;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+
+    /**
+     * @param batchFunction loads the values for a batch of distinct keys
+     * @param window how long the first key of a batch waits for others to join it
+     * @param maxBatchSize number of distinct keys that dispatches a batch immediately
+     * @param maxWait how long {@link #load(Object)} waits for its batch before loading the key itself
+     * @param executor runs batches dispatched when their window elapses
+     * @param scheduler triggers the end of batch windows
+     * @param batchSizes receives the size of every dispatched batch
+     */
+    public BatchLoader(BatchFunction<K, V> batchFunction,
+                       Duration window,
+                       int maxBatchSize,
+                       Duration maxWait,
+                       Executor executor,
+                       ScheduledExecutorService scheduler,
+                       DistributionSummary batchSizes) {
+        this.batchFunction = batchFunction;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.batchSizes = batchSizes;
+    }
+
+    /**
+     * Loads the value for the given key as part of the current batch and waits for it.
+     *
+     * @param key key to load
+     * @return the loaded value, or {@code null} if the batch function did not return one for the key
+     */
+    public V load(K key) {
+        try {
+            return loadAsync(key).get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Batch for key {} did not complete in time, loading it directly", key);
+            return loadDirectly(key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                return loadDirectly(key);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch of key " + key, e);
+        }
+    }
+
+    /**
+     * Adds the given key to the current batch.
+     *
+     * @param key key to load
+     * @return future completed with the loaded value, or {@code null} if the batch function did not return one
+     */
+    public CompletableFuture<V> loadAsync(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        lock.lock();
+        try {
+            future = pending.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(key, future);
+                if (pending.size() == 1) {
+                    Map<K, CompletableFuture<V>> batch = pending;
+                    scheduler.schedule(() -> dispatchOnExpiry(batch), windowNanos, TimeUnit.NANOSECONDS);
+                }
+                if (pending.size() >= maxBatchSize) {
+                    full = takePending();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    private void dispatchOnExpiry(Map<K, CompletableFuture<V>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                return;
+            }
+            takePending();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            executor.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException e) {
+            log.debug("Batch executor rejected a batch of {} keys, callers load their keys directly", batch.size());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        batchSizes.record(batch.size());
+        try {
+            batchFunction.load(new ArrayList<>(batch.keySet()), (key, value) -> {
+                CompletableFuture<V> future = batch.get(key);
+                if (future != null) {
+                    future.complete(value);
+                }
+            });
+            batch.values().forEach(future -> future.complete(null));
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private V loadDirectly(K key) {
+        AtomicReference<V> value = new AtomicReference<>();
+        batchFunction.load(List.of(key), (loadedKey, loadedValue) -> value.set(loadedValue));
+        return value.get();
+    }
+}
@@ -0,0 +1,90 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates {@link BatchLoader} instances that share one window timer and one bounded batch executor.
+ * <p>
+ * Batching is opt-in: the batch window is {@code cache.batch-loader.window}, and the default
+ * zero window disables it, in which case {@link #create} returns an empty {@link Optional} and
+ * callers keep their per-key lookup path. The size that dispatches a batch early is {@code cache.batch-loader.max-batch-size},
+ * and a caller waits at most {@code cache.batch-loader.max-wait} for its batch. Batches whose
+ * window elapses run on a dedicated pool of {@code cache.batch-loader.threads} threads with a
+ * queue of {@code cache.batch-loader.queue-capacity} batches, so they never queue behind other
+ * application tasks. Batch sizes are published as {@code cache.batch-loader.batch-size},
+ * tagged with the loader name.
+ *
+ * @since 1.0
+ */
+@Component
+public class BatchLoaderFactory implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor executor;
+
+    public BatchLoaderFactory(MeterRegistry meterRegistry,
+                              @Value("${cache.batch-loader.window}") Duration window,
+                              @Value("${cache.batch-loader.max-batch-size}") int maxBatchSize,
+                              @Value("${cache.batch-loader.max-wait}") Duration maxWait,
+                              @Value("${cache.batch-loader.threads}") int threads,
+                              @Value("${cache.batch-loader.queue-capacity}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-loader-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "batch-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a loader that batches lookups for the given batch function.
+     *
+     * @param name loader name used to tag its metrics
+     * @param batchFunction loads the values for a batch of distinct keys
+     * @param <K> type of the lookup key
+     * @param <V> type of the loaded value
+     * @return the loader, or an empty {@link Optional} if batching is disabled
+     */
+    public <K, V> Optional<BatchLoader<K, V>> create(String name, BatchLoader.BatchFunction<K, V> batchFunction) {
+        if (!window.isPositive()) {
+            return Optional.empty();
+        }
+        DistributionSummary batchSizes = DistributionSummary.builder("cache.batch-loader.batch-size")
+                .tag("loader", name)
+                .register(meterRegistry);
+        return Optional.of(new BatchLoader<>(batchFunction, window, maxBatchSize, maxWait, executor, scheduler, batchSizes));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+}
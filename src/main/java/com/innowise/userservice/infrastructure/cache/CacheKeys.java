@@ -1,5 +1,6 @@
 package com.innowise.userservice.infrastructure.cache;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -18,6 +19,42 @@ public final class CacheKeys {
      */
     public static final String USER_WITH_CARDS_PREFIX = "user:with:cards:";
 
+    /**
+     * The prefix for cache keys that store a user's profile without their cards.
+     */
+    public static final String USER_PROFILE_PREFIX = "user:profile:";
+
+    /**
+     * The prefix for cache keys that store the serialized JSON response of a user aggregate.
+     */
+    public static final String USER_JSON_PREFIX = "user:json:";
+
+    /**
+     * The standard prefix for cache keys that store a single card.
+     */
+    public static final String CARD_PREFIX = "card:info:";
+
+    /**
+     * The prefix for negative cache entries recording that a user id does not exist.
+     */
+    public static final String MISSING_USER_PREFIX = "user:missing:";
+
+    /**
+     * The prefix for negative cache entries recording that a card id does not exist.
+     */
+    public static final String MISSING_CARD_PREFIX = "card:missing:";
+
+    /**
+     * The Redis pub/sub channel on which evicted keys are broadcast so that every
+     * replica can drop its in-process copy.
+     */
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    /**
+     * The prefix for short-lived leases that mark a cache entry as being loaded by some node.
+     */
+    public static final String LOAD_LEASE_PREFIX = "lease:";
+
     /**
      * Generates the specific cache key for a user aggregate.
      *
@@ -28,5 +65,76 @@ public final class CacheKeys {
         return USER_WITH_CARDS_PREFIX + userId;
     }
 
+    /**
+     * Generates the cache key for a user's profile without their cards.
+     *
+     * @param userId The unique identifier of the user.
+     * @return A consistent, formatted string to be used as a cache key.
+     */
+    public static String getUserProfileKey(UUID userId) {
+        return USER_PROFILE_PREFIX + userId;
+    }
+
+    /**
+     * Generates the cache key for the serialized JSON response of a user aggregate.
+     *
+     * @param userId The unique identifier of the user.
+     * @return A consistent, formatted string to be used as a cache key.
+     */
+    public static String getUserJsonKey(UUID userId) {
+        return USER_JSON_PREFIX + userId;
+    }
+
+    /**
+     * Returns every cache key holding a representation of the user aggregate.
+     * Any change to a user or their cards must evict all of them.
+     *
+     * @param userId The unique identifier of the user.
+     * @return The aggregate, profile and serialized response keys of the user.
+     */
+    public static List<String> getUserKeys(UUID userId) {
+        return List.of(getUserWithCardsKey(userId), getUserProfileKey(userId), getUserJsonKey(userId));
+    }
+
+    /**
+     * Generates the cache key for a single card.
+     *
+     * @param cardId The unique identifier of the card.
+     * @return A consistent, formatted string to be used as a cache key.
+     */
+    public static String getCardKey(UUID cardId) {
+        return CARD_PREFIX + cardId;
+    }
+
+    /**
+     * Generates the negative cache key recording that a user does not exist.
+     *
+     * @param userId The unique identifier of the missing user.
+     * @return A consistent, formatted string to be used as a cache key.
+     */
+    public static String getMissingUserKey(UUID userId) {
+        return MISSING_USER_PREFIX + userId;
+    }
+
+    /**
+     * Generates the negative cache key recording that a card does not exist.
+     *
+     * @param cardId The unique identifier of the missing card.
+     * @return A consistent, formatted string to be used as a cache key.
+     */
+    public static String getMissingCardKey(UUID cardId) {
+        return MISSING_CARD_PREFIX + cardId;
+    }
+
+    /**
+     * Generates the key of the load lease guarding the given cache key.
+     *
+     * @param key The cache key whose load is being coordinated.
+     * @return A consistent, formatted string to be used as a lease key.
+     */
+    public static String getLoadLeaseKey(String key) {
+        return LOAD_LEASE_PREFIX + key;
+    }
+
     private CacheKeys() {}
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import com.innowise.userservice.application.dto.cache.CacheEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Probabilistic early refresh of cache entries (the XFetch algorithm).
+ * <p>
+ * A read that still finds an entry decides to recompute it ahead of expiry when
+ * {@code now - delta * beta * ln(rand) >= expiresAt}, where {@code delta} is the observed
+ * time a recompute takes and {@code beta} ({@code cache.early-refresh.beta}) scales how
+ * eagerly entries are refreshed. The closer an entry is to expiry, the more likely a read
+ * refreshes it, so a popular entry is almost always recomputed by exactly one reader before
+ * it lapses while the reader itself is still served the cached value. Recomputes run on the
+ * application task executor, and at most one per key is in flight on a node.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class EarlyRefresher {
+
+    private static final double EWMA_WEIGHT = 0.2;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final TaskExecutor taskExecutor;
+    private final double beta;
+    private volatile double deltaMillis;
+
+    public EarlyRefresher(TaskExecutor taskExecutor,
+                          @Value("${cache.early-refresh.beta}") double beta,
+                          @Value("${cache.early-refresh.initial-recompute-time}") Duration initialRecomputeTime) {
+        this.taskExecutor = taskExecutor;
+        this.beta = beta;
+        this.deltaMillis = initialRecomputeTime.toMillis();
+    }
+
+    /**
+     * Decides whether the given entry should be recomputed ahead of its expiry.
+     *
+     * @param entry the entry just read from the cache
+     * @return true if the caller should trigger a background refresh
+     */
+    public boolean shouldRefresh(CacheEntry<?> entry) {
+        if (entry == null || entry.expiresAt() == null || beta <= 0) {
+            return false;
+        }
+        double random = 1 - ThreadLocalRandom.current().nextDouble();
+        long gapMillis = Math.round(-deltaMillis * beta * Math.log(random));
+        return !Instant.now().plusMillis(gapMillis).isBefore(entry.expiresAt());
+    }
+
+    /**
+     * Runs the given recompute in the background unless one is already running for the key.
+     *
+     * @param key cache key being refreshed
+     * @param refresh recomputes the entry and writes it back to the cache
+     */
+    public void refreshInBackground(String key, Runnable refresh) {
+        if (!inFlight.add(key)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> runRefresh(key, refresh));
+        } catch (TaskRejectedException e) {
+            inFlight.remove(key);
+            log.debug("Early refresh of key {} rejected by executor", key);
+        }
+    }
+
+    private void runRefresh(String key, Runnable refresh) {
+        long start = System.nanoTime();
+        try {
+            refresh.run();
+            double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+            deltaMillis = deltaMillis + EWMA_WEIGHT * (elapsedMillis - deltaMillis);
+            log.debug("Refreshed key {} ahead of expiry in {} ms", key, Math.round(elapsedMillis));
+        } catch (RuntimeException e) {
+            log.warn("Early refresh of key {} failed: {}", key, e.getMessage());
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+}
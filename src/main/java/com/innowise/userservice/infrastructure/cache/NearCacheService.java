@@ -0,0 +1,243 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.innowise.userservice.application.dto.cache.CacheEntry;
+import com.innowise.userservice.application.service.CacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Two-tier {@link CacheService} that keeps a bounded in-process copy of hot entries
+ * in front of {@link RedisCacheService}.
+ * <p>
+ * The local tier is a Caffeine cache, whose Window TinyLFU policy admits and evicts
+ * entries by access frequency rather than plain recency, so a burst of one-off keys
+ * cannot flush the hot working set. Every evicted key is broadcast on
+ * {@link CacheKeys#INVALIDATION_CHANNEL}, and every replica drops its local copy when
+ * the message arrives. Local entries also expire after a short time-to-live, which bounds
+ * staleness should an invalidation message be lost; entries written with an explicit
+ * time-to-live shorter than that never outlive their Redis counterpart locally. Entries written
+ * without one carry the Redis default time-to-live, and entries read from Redis keep the Redis
+ * expiry, so {@link #getEntry(String, Class)} reports the same remaining lifetime from either tier.
+ * <p>
+ * Hit and miss counts are published per tier: the local tier through the Caffeine
+ * metrics binder under the cache name {@code near}, and the Redis tier through the
+ * {@code cache.redis.requests} counter.
+ *
+ * @see RedisCacheService
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@Primary
+public class NearCacheService implements CacheService {
+
+    private static final String LOCAL_CACHE_NAME = "near";
+    private static final String REDIS_REQUESTS_METRIC = "cache.redis.requests";
+
+    private final RedisCacheService redisCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, CacheEntry<Object>> localCache;
+    private final Policy.VarExpiration<String, CacheEntry<Object>> localExpiration;
+    private final Duration localTtl;
+    private final Duration defaultTtl;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public NearCacheService(RedisCacheService redisCacheService,
+                            StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.near.maximum-size}") long maximumSize,
+                            @Value("${cache.near.time-to-live}") Duration timeToLive,
+                            @Value("${spring.cache.redis.time-to-live}") Duration defaultTtl) {
+        this.redisCacheService = redisCacheService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localTtl = timeToLive;
+        this.defaultTtl = defaultTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, CacheEntry<Object>>writing((key, value) -> timeToLive))
+                .recordStats()
+                .build();
+        this.localExpiration = localCache.policy().expireVariably().orElseThrow();
+        this.redisHits = Counter.builder(REDIS_REQUESTS_METRIC)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder(REDIS_REQUESTS_METRIC)
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, LOCAL_CACHE_NAME);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(message),
+                new ChannelTopic(CacheKeys.INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        redisCacheService.put(key, value);
+        putLocal(key, value, defaultTtl);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        redisCacheService.put(key, value, ttl);
+        putLocal(key, value, ttl);
+    }
+
+    @Override
+    public void multiPut(Map<String, Object> entries) {
+        redisCacheService.multiPut(entries);
+        entries.forEach((key, value) -> putLocal(key, value, defaultTtl));
+    }
+
+    @Override
+    public void multiPut(Map<String, Object> entries, Duration ttl) {
+        redisCacheService.multiPut(entries, ttl);
+        entries.forEach((key, value) -> putLocal(key, value, ttl));
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        CacheEntry<T> entry = getEntry(key, type);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public <T> List<T> multiGet(List<String> keys, Class<T> type) {
+        return multiGetEntries(keys, type).stream()
+                .map(entry -> entry != null ? entry.value() : null)
+                .toList();
+    }
+
+    @Override
+    public <T> CacheEntry<T> getEntry(String key, Class<T> type) {
+        CacheEntry<Object> local = localCache.getIfPresent(key);
+        if (local != null) {
+            return cast(local, type);
+        }
+
+        CacheEntry<T> entry = redisCacheService.getEntry(key, type);
+        recordRedisLookup(entry);
+        if (entry != null) {
+            putLocal(key, entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public <T> List<CacheEntry<T>> multiGetEntries(List<String> keys, Class<T> type) {
+        Map<String, CacheEntry<Object>> local = localCache.getAllPresent(keys);
+        if (local.size() == keys.size()) {
+            return keys.stream()
+                    .map(key -> cast(local.get(key), type))
+                    .toList();
+        }
+
+        List<String> remoteKeys = keys.stream()
+                .filter(key -> !local.containsKey(key))
+                .toList();
+        List<CacheEntry<T>> remoteEntries = redisCacheService.multiGetEntries(remoteKeys, type);
+
+        Map<String, CacheEntry<T>> fetched = new HashMap<>();
+        for (int i = 0; i < remoteKeys.size() && i < remoteEntries.size(); i++) {
+            CacheEntry<T> entry = remoteEntries.get(i);
+            recordRedisLookup(entry);
+            if (entry != null) {
+                fetched.put(remoteKeys.get(i), entry);
+                putLocal(remoteKeys.get(i), entry);
+            }
+        }
+
+        List<CacheEntry<T>> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            result.add(local.containsKey(key) ? cast(local.get(key), type) : fetched.get(key));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> CacheEntry<T> getLocalEntry(String key, Class<T> type) {
+        CacheEntry<Object> local = localCache.getIfPresent(key);
+        return local != null ? cast(local, type) : null;
+    }
+
+    @Override
+    public void evict(String key) {
+        redisCacheService.evict(key);
+        localCache.invalidate(key);
+        stringRedisTemplate.convertAndSend(CacheKeys.INVALIDATION_CHANNEL, key);
+    }
+
+    @Override
+    public void multiEvict(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisCacheService.multiEvict(keys);
+        localCache.invalidateAll(keys);
+        byte[] channel = CacheKeys.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.publish(channel, key.getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+    }
+
+    private void putLocal(String key, Object value, Duration ttl) {
+        Duration localLifetime = ttl.compareTo(localTtl) < 0 ? ttl : localTtl;
+        localExpiration.put(key, new CacheEntry<>(value, Instant.now().plus(ttl)), localLifetime);
+    }
+
+    private void putLocal(String key, CacheEntry<?> entry) {
+        if (entry.expiresAt() == null) {
+            localCache.put(key, new CacheEntry<>(entry.value(), null));
+            return;
+        }
+        Duration remaining = Duration.between(Instant.now(), entry.expiresAt());
+        if (remaining.isPositive()) {
+            localExpiration.put(key, new CacheEntry<>(entry.value(), entry.expiresAt()),
+                    remaining.compareTo(localTtl) < 0 ? remaining : localTtl);
+        }
+    }
+
+    private static <T> CacheEntry<T> cast(CacheEntry<Object> entry, Class<T> type) {
+        return new CacheEntry<>(type.cast(entry.value()), entry.expiresAt());
+    }
+
+    private void onInvalidation(Message message) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        localCache.invalidate(key);
+        log.debug("Invalidated near cache entry for key: {}", key);
+    }
+
+    private void recordRedisLookup(Object entry) {
+        if (entry != null) {
+            redisHits.increment();
+        } else {
+            redisMisses.increment();
+        }
+    }
+}
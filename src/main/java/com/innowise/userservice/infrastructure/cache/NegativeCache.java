@@ -0,0 +1,97 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import com.innowise.userservice.application.service.CacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Short-lived cache of ids confirmed not to exist.
+ * <p>
+ * Lookups of unknown ids would otherwise reach the database on every request. Once a
+ * lookup confirms that an id is missing, a marker is stored under the corresponding
+ * {@link CacheKeys} negative key for {@code cache.negative.time-to-live}, and later lookups
+ * fail fast until it expires or the creating operation clears it.
+ *
+ * @since 1.0
+ */
+@Component
+public class NegativeCache {
+
+    private static final Boolean MISSING = Boolean.TRUE;
+
+    private final CacheService cacheService;
+    private final Duration ttl;
+
+    public NegativeCache(CacheService cacheService,
+                         @Value("${cache.negative.time-to-live}") Duration ttl) {
+        this.cacheService = cacheService;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Checks whether the given negative key is currently recorded.
+     *
+     * @param key negative cache key
+     * @return true if the id behind the key is known to be missing
+     */
+    public boolean isMissing(String key) {
+        return cacheService.get(key, Boolean.class) != null;
+    }
+
+    /**
+     * Returns the subset of the given negative keys that are currently recorded.
+     *
+     * @param keys negative cache keys to check
+     * @return the recorded keys
+     */
+    public Set<String> findMissing(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        List<Boolean> markers = cacheService.multiGet(keys, Boolean.class);
+        Set<String> missing = new HashSet<>();
+        for (int i = 0; i < keys.size() && i < markers.size(); i++) {
+            if (markers.get(i) != null) {
+                missing.add(keys.get(i));
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Records that the id behind the given negative key does not exist.
+     *
+     * @param key negative cache key
+     */
+    public void markMissing(String key) {
+        cacheService.put(key, MISSING, ttl);
+    }
+
+    /**
+     * Records that the ids behind the given negative keys do not exist.
+     *
+     * @param keys negative cache keys
+     */
+    public void markMissing(Collection<String> keys) {
+        Map<String, Object> entries = new HashMap<>();
+        keys.forEach(key -> entries.put(key, MISSING));
+        cacheService.multiPut(entries, ttl);
+    }
+
+    /**
+     * Removes a negative entry, typically because the id has just been created.
+     *
+     * @param key negative cache key
+     */
+    public void clear(String key) {
+        cacheService.evict(key);
+    }
+}
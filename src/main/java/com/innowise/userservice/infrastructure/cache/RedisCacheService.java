@@ -1,30 +1,107 @@
 package com.innowise.userservice.infrastructure.cache;
 
+import com.innowise.userservice.application.dto.cache.CacheEntry;
 import com.innowise.userservice.application.service.CacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class RedisCacheService implements CacheService {
 
+    private static final int EVICT_CHUNK_SIZE = 1000;
+    private static final RedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final Duration defaultTtl;
+    private final double ttlJitter;
 
     public RedisCacheService(RedisTemplate<String, Object> redisTemplate,
-                             @Value("${spring.cache.redis.time-to-live}") Duration defaultTtl) {
+                             @Value("${spring.cache.redis.time-to-live}") Duration defaultTtl,
+                             @Value("${cache.ttl-jitter}") double ttlJitter) {
         this.redisTemplate = redisTemplate;
         this.defaultTtl = defaultTtl;
+        this.ttlJitter = ttlJitter;
     }
 
     @Override
     public void put(String key, Object value) {
-        redisTemplate.opsForValue().set(key, value, defaultTtl);
+        put(key, value, defaultTtl);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, jittered(ttl));
+    }
+
+    @Override
+    public void multiPut(Map<String, Object> entries) {
+        multiPut(entries, defaultTtl);
+    }
+
+    @Override
+    public void multiPut(Map<String, Object> entries, Duration ttl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ValueOperations<String, Object> valueOperations = (ValueOperations<String, Object>) operations.opsForValue();
+                entries.forEach((key, value) -> valueOperations.set(key, value, jittered(ttl)));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Store an object only if the key is not present yet.
+     * @param key cache key
+     * @param value object to store
+     * @param ttl time-to-live of the entry
+     * @return true if the value was stored, false if the key already existed
+     */
+    public boolean putIfAbsent(String key, Object value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    /**
+     * Delete a key only if it still holds the given value, atomically.
+     * @param key cache key
+     * @param expected value the key must hold to be deleted
+     * @return true if the key was deleted, false if it was absent or held another value
+     */
+    public boolean evictIfValue(String key, Object expected) {
+        Long deleted = redisTemplate.execute(COMPARE_AND_DELETE, List.of(key), expected);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * Check whether a key is present.
+     * @param key cache key
+     * @return true if the key exists
+     */
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
 
     @Override
@@ -44,8 +121,78 @@ public class RedisCacheService implements CacheService {
                 .toList();
     }
 
+    @Override
+    public <T> CacheEntry<T> getEntry(String key, Class<T> type) {
+        return multiGetEntries(List.of(key), type).get(0);
+    }
+
+    @Override
+    public <T> List<CacheEntry<T>> multiGetEntries(List<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                for (String key : keys) {
+                    redisOperations.opsForValue().get(key);
+                    redisOperations.getExpire(key, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+
+        Instant now = Instant.now();
+        List<CacheEntry<T>> entries = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = results.get(2 * i);
+            if (value == null) {
+                entries.add(null);
+                continue;
+            }
+            Long ttlMillis = (Long) results.get(2 * i + 1);
+            Instant expiresAt = ttlMillis != null && ttlMillis >= 0 ? now.plusMillis(ttlMillis) : null;
+            entries.add(new CacheEntry<>(type.cast(value), expiresAt));
+        }
+        return entries;
+    }
+
+    @Override
+    public <T> CacheEntry<T> getLocalEntry(String key, Class<T> type) {
+        return null;
+    }
+
     @Override
     public void evict(String key) {
         redisTemplate.delete(key);
     }
+
+    @Override
+    public void multiEvict(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> keyList = List.copyOf(keys);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                for (int from = 0; from < keyList.size(); from += EVICT_CHUNK_SIZE) {
+                    redisOperations.delete(keyList.subList(from, Math.min(from + EVICT_CHUNK_SIZE, keyList.size())));
+                }
+                return null;
+            }
+        });
+    }
+
+    private Duration jittered(Duration ttl) {
+        if (ttlJitter <= 0) {
+            return ttl;
+        }
+        double factor = 1 + ttlJitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis(Math.max(1, Math.round(ttl.toMillis() * factor)));
+    }
 }
\ No newline at end of file
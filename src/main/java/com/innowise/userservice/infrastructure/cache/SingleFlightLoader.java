@@ -0,0 +1,124 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same cache entry.
+ * <p>
+ * Within one node, the first caller for a key becomes the leader and runs the loader, while
+ * every concurrent caller for that key waits for the leader's result or exception instead of
+ * querying the database itself. When {@code cache.single-flight.lease.enabled} is set, the
+ * leader additionally takes a short Redis lease under {@link CacheKeys#getLoadLeaseKey(String)}.
+ * Leaders on other nodes that find the lease taken poll Redis for the entry the lease holder
+ * writes, and run the loader themselves once the lease is released or has expired without a
+ * result. The lease holds the node id and is released with a compare-and-delete, so a leader
+ * that overran the lease TTL never removes a lease another node has taken since.
+ *
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class SingleFlightLoader {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisCacheService redisCacheService;
+    private final boolean leaseEnabled;
+    private final Duration leaseTtl;
+    private final Duration pollInterval;
+
+    public SingleFlightLoader(RedisCacheService redisCacheService,
+                              @Value("${cache.single-flight.lease.enabled}") boolean leaseEnabled,
+                              @Value("${cache.single-flight.lease.ttl}") Duration leaseTtl,
+                              @Value("${cache.single-flight.lease.poll-interval}") Duration pollInterval) {
+        this.redisCacheService = redisCacheService;
+        this.leaseEnabled = leaseEnabled;
+        this.leaseTtl = leaseTtl;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Loads the entry for the given cache key, sharing a single loader execution among
+     * all concurrent callers for the same key.
+     *
+     * @param key cache key of the entry being loaded
+     * @param type expected type of the entry
+     * @param loader loads the entry from the source of truth and stores it in the cache
+     * @param <T> type parameter
+     * @return the loaded entry
+     */
+    public <T> T load(String key, Class<T> type, Supplier<T> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.debug("Joining in-flight load for key: {}", key);
+            return type.cast(await(existing));
+        }
+
+        try {
+            T value = leaseEnabled ? loadWithLease(key, type, loader) : loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <T> T loadWithLease(String key, Class<T> type, Supplier<T> loader) {
+        String leaseKey = CacheKeys.getLoadLeaseKey(key);
+        if (redisCacheService.putIfAbsent(leaseKey, nodeId, leaseTtl)) {
+            try {
+                return loader.get();
+            } finally {
+                redisCacheService.evictIfValue(leaseKey, nodeId);
+            }
+        }
+
+        log.debug("Load lease for key {} is held by another node, waiting for its result", key);
+        long deadline = System.nanoTime() + leaseTtl.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            boolean leaseReleased = !redisCacheService.hasKey(leaseKey);
+            T value = redisCacheService.get(key, type);
+            if (value != null) {
+                return value;
+            }
+            if (leaseReleased) {
+                break;
+            }
+        }
+
+        log.debug("Load lease for key {} ended without a result, loading locally", key);
+        return loader.get();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
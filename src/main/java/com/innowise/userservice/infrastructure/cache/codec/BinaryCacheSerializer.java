@@ -0,0 +1,109 @@
+package com.innowise.userservice.infrastructure.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis value serializer that writes registered types in a compact binary layout.
+ * <p>
+ * Each binary value starts with a three-byte header: a magic byte that cannot begin a
+ * JSON document, the format version, and the {@link CacheValueCodec#typeTag()} of the
+ * codec that wrote the body. Values of unregistered types are written by the fallback
+ * serializer, and values without the magic byte (including entries written before this
+ * codec was rolled out) are read by it, so both formats can coexist in Redis until the
+ * older entries expire. An entry with an unknown format version is read as {@code null},
+ * which callers treat as a cache miss and overwrite on the next load. When binary writes are
+ * disabled every value is written by the fallback, but binary entries remain readable, which
+ * allows the codec to be rolled back without a cache flush.
+ *
+ * @see CacheValueCodec
+ * @since 1.0
+ */
+@Slf4j
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB1;
+    static final byte FORMAT_VERSION = 2;
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, CacheValueCodec<?>> codecsByTag = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final boolean writeBinary;
+
+    public BinaryCacheSerializer(List<CacheValueCodec<?>> codecs, RedisSerializer<Object> fallback, boolean writeBinary) {
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codecsByTag.put(codec.typeTag(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate cache codec type tag: " + codec.typeTag());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        CacheValueCodec<?> codec = writeBinary ? codecsByType.get(value.getClass()) : null;
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(codec.typeTag());
+            encode(codec, value, out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode cache value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != FORMAT_VERSION) {
+            log.debug("Ignoring cache value with unsupported format version");
+            return null;
+        }
+
+        CacheValueCodec<?> codec = codecsByTag.get(bytes[2]);
+        if (codec == null) {
+            log.debug("Ignoring cache value with unknown type tag: {}", bytes[2]);
+            return null;
+        }
+
+        try {
+            return codec.decode(new DataInputStream(new ByteArrayInputStream(bytes, 3, bytes.length - 3)));
+        } catch (IOException e) {
+            throw new SerializationException("Could not decode cache value of type " + codec.type().getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void encode(CacheValueCodec<T> codec, Object value, DataOutputStream out) throws IOException {
+        codec.encode((T) value, out);
+    }
+}
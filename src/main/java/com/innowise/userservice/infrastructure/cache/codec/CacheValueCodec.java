@@ -0,0 +1,51 @@
+package com.innowise.userservice.infrastructure.cache.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Schema-aware binary encoder and decoder for a single cached value type.
+ * <p>
+ * Implementations are registered with {@link BinaryCacheSerializer}, which writes the
+ * format header and the codec's {@link #typeTag()} before delegating the body to the codec.
+ * Tags are persisted in Redis, so once assigned they must never be reused for another type.
+ *
+ * @param <T> the cached value type handled by this codec
+ * @see BinaryCacheSerializer
+ * @since 1.0
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * Returns the tag identifying this codec's type in the serialized header.
+     *
+     * @return a tag unique among all registered codecs
+     */
+    byte typeTag();
+
+    /**
+     * Returns the exact class of values this codec handles.
+     *
+     * @return the handled value type
+     */
+    Class<T> type();
+
+    /**
+     * Writes the body of the given value.
+     *
+     * @param value the value to encode, never null
+     * @param out the destination of the encoded body
+     * @throws IOException if the value cannot be written
+     */
+    void encode(T value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value body previously written by {@link #encode(Object, DataOutput)}.
+     *
+     * @param in the source positioned at the start of the body
+     * @return the decoded value
+     * @throws IOException if the body is truncated or malformed
+     */
+    T decode(DataInput in) throws IOException;
+}
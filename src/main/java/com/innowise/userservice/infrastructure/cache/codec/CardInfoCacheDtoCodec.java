@@ -0,0 +1,49 @@
+package com.innowise.userservice.infrastructure.cache.codec;
+
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link CardInfoCacheDto}, used both for standalone card entries
+ * and for the cards nested inside a user aggregate.
+ *
+ * @see UserCacheDtoCodec
+ * @since 1.0
+ */
+@Component
+public class CardInfoCacheDtoCodec implements CacheValueCodec<CardInfoCacheDto> {
+
+    private static final byte TYPE_TAG = 2;
+
+    @Override
+    public byte typeTag() {
+        return TYPE_TAG;
+    }
+
+    @Override
+    public Class<CardInfoCacheDto> type() {
+        return CardInfoCacheDto.class;
+    }
+
+    @Override
+    public void encode(CardInfoCacheDto value, DataOutput out) throws IOException {
+        CodecSupport.writeUuid(out, value.getId());
+        CodecSupport.writeString(out, value.getNumber());
+        CodecSupport.writeString(out, value.getHolder());
+        CodecSupport.writeDate(out, value.getExpirationDate());
+    }
+
+    @Override
+    public CardInfoCacheDto decode(DataInput in) throws IOException {
+        return CardInfoCacheDto.builder()
+                .id(CodecSupport.readUuid(in))
+                .number(CodecSupport.readString(in))
+                .holder(CodecSupport.readString(in))
+                .expirationDate(CodecSupport.readDate(in))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.innowise.userservice.infrastructure.cache.codec;
+
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
+import com.innowise.userservice.application.dto.cache.UserCacheDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec for the {@link UserCacheDto} aggregate.
+ * <p>
+ * The profile fields are followed by a card count ({@code -1} for a null list),
+ * the card bodies written by {@link CardInfoCacheDtoCodec} and the profile version.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheDtoCodec implements CacheValueCodec<UserCacheDto> {
+
+    private static final byte TYPE_TAG = 1;
+
+    private final CardInfoCacheDtoCodec cardCodec;
+
+    @Override
+    public byte typeTag() {
+        return TYPE_TAG;
+    }
+
+    @Override
+    public Class<UserCacheDto> type() {
+        return UserCacheDto.class;
+    }
+
+    @Override
+    public void encode(UserCacheDto value, DataOutput out) throws IOException {
+        CodecSupport.writeUuid(out, value.getId());
+        CodecSupport.writeString(out, value.getName());
+        CodecSupport.writeString(out, value.getSurname());
+        CodecSupport.writeDate(out, value.getBirthDate());
+        CodecSupport.writeString(out, value.getEmail());
+
+        List<CardInfoCacheDto> cards = value.getCards();
+        out.writeInt(cards != null ? cards.size() : -1);
+        if (cards != null) {
+            for (CardInfoCacheDto card : cards) {
+                cardCodec.encode(card, out);
+            }
+        }
+        CodecSupport.writeLong(out, value.getVersion());
+    }
+
+    @Override
+    public UserCacheDto decode(DataInput in) throws IOException {
+        UserCacheDto.UserCacheDtoBuilder builder = UserCacheDto.builder()
+                .id(CodecSupport.readUuid(in))
+                .name(CodecSupport.readString(in))
+                .surname(CodecSupport.readString(in))
+                .birthDate(CodecSupport.readDate(in))
+                .email(CodecSupport.readString(in));
+
+        int cardCount = in.readInt();
+        if (cardCount >= 0) {
+            List<CardInfoCacheDto> cards = new ArrayList<>(cardCount);
+            for (int i = 0; i < cardCount; i++) {
+                cards.add(cardCodec.decode(in));
+            }
+            builder.cards(cards);
+        }
+        return builder.version(CodecSupport.readLong(in)).build();
+    }
+}
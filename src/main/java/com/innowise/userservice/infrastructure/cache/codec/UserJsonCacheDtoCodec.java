@@ -0,0 +1,54 @@
+package com.innowise.userservice.infrastructure.cache.codec;
+
+import com.innowise.userservice.application.dto.cache.UserJsonCacheDto;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Binary codec for {@link UserJsonCacheDto}.
+ * <p>
+ * The version is followed by the body length and the raw JSON bytes, so decoding
+ * an entry is a single array copy.
+ *
+ * @since 1.0
+ */
+@Component
+public class UserJsonCacheDtoCodec implements CacheValueCodec<UserJsonCacheDto> {
+
+    private static final byte TYPE_TAG = 3;
+
+    @Override
+    public byte typeTag() {
+        return TYPE_TAG;
+    }
+
+    @Override
+    public Class<UserJsonCacheDto> type() {
+        return UserJsonCacheDto.class;
+    }
+
+    @Override
+    public void encode(UserJsonCacheDto value, DataOutput out) throws IOException {
+        CodecSupport.writeLong(out, value.getVersion());
+        byte[] json = value.getJson();
+        out.writeInt(json != null ? json.length : -1);
+        if (json != null) {
+            out.write(json);
+        }
+    }
+
+    @Override
+    public UserJsonCacheDto decode(DataInput in) throws IOException {
+        Long version = CodecSupport.readLong(in);
+        int length = in.readInt();
+        byte[] json = null;
+        if (length >= 0) {
+            json = new byte[length];
+            in.readFully(json);
+        }
+        return new UserJsonCacheDto(version, json);
+    }
+}
@@ -0,0 +1,73 @@
+package com.innowise.userservice.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Configuration of the binary response formats offered next to JSON.
+ * <p>
+ * Callers select CBOR ({@code application/cbor}) or Smile ({@code application/x-jackson-smile})
+ * through the {@code Accept} header; JSON stays the default. Both converters are built from
+ * the application's {@link Jackson2ObjectMapperBuilder}, so the binary bodies carry exactly
+ * the fields and modules of the JSON ones. Every response names {@code Accept} in its
+ * {@code Vary} header, so shared caches keep the formats apart.
+ * </p>
+ *
+ * @since 1.0
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    /**
+     * Registers the CBOR message converter.
+     *
+     * @param builder the auto-configured, prototype-scoped object mapper builder
+     * @return a converter reading and writing {@code application/cbor}
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Registers the Smile message converter.
+     *
+     * @param builder the auto-configured, prototype-scoped object mapper builder
+     * @return a converter reading and writing {@code application/x-jackson-smile}
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Registers a filter that adds {@code Vary: Accept} to every response, including
+     * 304 and error responses, which are never passed through a message converter.
+     *
+     * @return the filter
+     */
+    @Bean
+    public OncePerRequestFilter varyByAcceptFilter() {
+        return new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain filterChain) throws ServletException, IOException {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                filterChain.doFilter(request, response);
+            }
+        };
+    }
+}
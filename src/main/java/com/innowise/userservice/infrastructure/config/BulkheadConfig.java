@@ -0,0 +1,59 @@
+package com.innowise.userservice.infrastructure.config;
+
+import com.innowise.userservice.infrastructure.persistence.BulkheadDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts the {@link BulkheadDataSource} in front of the application data source.
+ * <p>
+ * Active when {@code db.bulkhead.enabled} is {@code true}, which by default follows
+ * {@code spring.threads.virtual.enabled}. Wrapping the data source rather than individual
+ * repositories or services caps every connection alike: service transactions, repository
+ * calls, {@code TransactionTemplate} blocks and plain JDBC. With read-replica routing the
+ * wrapped data source is the lazy routing proxy, so one permit covers a transaction
+ * whichever database it ends up on.
+ *
+ * @see BulkheadDataSource
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Wraps the application data source in the bulkhead as it is created.
+     * The meter registry is resolved on first use, so this early post-processor does not
+     * force it to be initialized ahead of its own post-processing.
+     *
+     * @param meterRegistry lazily resolved meter registry
+     * @param environment source of the pool size and {@code db.bulkhead.max-wait}
+     * @return bean post-processor wrapping the application data source
+     */
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                    Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return new BulkheadDataSource(dataSource,
+                            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10),
+                            environment.getRequiredProperty("db.bulkhead.max-wait", Duration.class),
+                            meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
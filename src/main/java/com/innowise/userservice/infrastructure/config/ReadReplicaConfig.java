@@ -0,0 +1,114 @@
+package com.innowise.userservice.infrastructure.config;
+
+import com.innowise.userservice.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-replica routing for the application {@link DataSource}.
+ * <p>
+ * Active only when {@code datasource.replica.urls} is set. The application data source is then
+ * a {@link LazyConnectionDataSourceProxy} over the primary pool, which fetches the physical
+ * connection on the first statement rather than at transaction start. By that time a
+ * {@code @Transactional(readOnly = true)} transaction has marked the connection read-only,
+ * and the proxy takes it from the {@link ReplicaRoutingDataSource} instead of the primary.
+ * Read-write transactions and Liquibase migrations keep using the primary.
+ *
+ * @see ReplicaRoutingDataSource
+ * @since 1.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class ReadReplicaConfig {
+
+    /**
+     * Creates the connection pool for the primary database from the standard
+     * {@code spring.datasource.*} properties.
+     *
+     * @param properties standard data source properties
+     * @return pooled primary data source
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * Creates one read-only connection pool per replica URL and routes between them.
+     *
+     * @param primaryDataSource fallback used when no replica is usable
+     * @param properties standard data source properties, used for the driver and default credentials
+     * @param meterRegistry registry for per-target metrics
+     * @param urls JDBC URLs of the replicas
+     * @param username replica user name
+     * @param password replica password
+     * @param policy {@code round-robin} or {@code least-in-flight}
+     * @param maxLag replicas lagging further behind than this are skipped
+     * @param lagCheckInterval how often replication lag is measured
+     * @return routing data source over all replicas
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") List<String> urls,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${datasource.replica.policy}") String policy,
+            @Value("${datasource.replica.max-lag}") Duration maxLag,
+            @Value("${datasource.replica.lag-check-interval}") Duration lagCheckInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls.get(i).trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                ReplicaRoutingDataSource.Policy.valueOf(policy.toUpperCase(Locale.ROOT).replace('-', '_')),
+                maxLag, lagCheckInterval, meterRegistry);
+    }
+
+    /**
+     * Creates the application data source that sends read-only transactions to the replicas.
+     *
+     * @param primaryDataSource pooled primary data source
+     * @param replicaRoutingDataSource routing data source over the replicas
+     * @return lazily connecting data source used by JPA, JDBC and Liquibase
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -4,15 +4,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.innowise.userservice.infrastructure.cache.codec.BinaryCacheSerializer;
+import com.innowise.userservice.infrastructure.cache.codec.CacheValueCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 /**
  * Redis configuration for data storage and caching capabilities.
  * <p>
@@ -30,18 +37,25 @@ public class RedisConfig {
     /**
      * Creates a configured Redis template for key-value operations.
      * <p>
-     * Configures serialization for both keys (String) and values (JSON),
-     * enabling type-safe Redis operations with automatic JSON conversion.
+     * Configures serialization for keys (String) and values. With {@code cache.redis.codec=binary}
+     * (the default) registered cache DTOs are written by {@link BinaryCacheSerializer}, and every other
+     * value as well as legacy entries fall back to JSON. With {@code cache.redis.codec=json} all values
+     * are written as JSON, while binary entries already in Redis are still readable.
      * </p>
      *
      * @param connectionFactory the auto-configured {@link RedisConnectionFactory}
+     * @param codecs the binary codecs registered for cached value types
+     * @param codec the value codec to write with, either {@code binary} or {@code json}
      * @return a configured {@link RedisTemplate} for Redis operations
      * @see StringRedisSerializer
      * @see GenericJackson2JsonRedisSerializer
+     * @see BinaryCacheSerializer
      * @since 1.0
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       List<CacheValueCodec<?>> codecs,
+                                                       @Value("${cache.redis.codec:binary}") String codec) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
 
         ObjectMapper mapper = new ObjectMapper();
@@ -53,7 +67,9 @@ public class RedisConfig {
         );
 
         var keySerializer = new StringRedisSerializer();
-        var valueSerializer = new GenericJackson2JsonRedisSerializer(mapper);
+        var jsonSerializer = new GenericJackson2JsonRedisSerializer(mapper);
+        RedisSerializer<Object> valueSerializer =
+                new BinaryCacheSerializer(codecs, jsonSerializer, !"json".equalsIgnoreCase(codec));
 
         template.setConnectionFactory(connectionFactory);
 
@@ -68,6 +84,23 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Creates the listener container used for Redis pub/sub subscriptions.
+     * <p>
+     * Subscribers such as the near cache register their channel listeners on this
+     * container to receive cross-node cache invalidation messages.
+     * </p>
+     *
+     * @param connectionFactory the auto-configured {@link RedisConnectionFactory}
+     * @return a {@link RedisMessageListenerContainer} bound to the given connection factory
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     /**
      * Provides the Redis connection factory for database interactions.
      * <p>
@@ -0,0 +1,110 @@
+package com.innowise.userservice.infrastructure.persistence;
+
+import com.innowise.userservice.application.exception.unavailable.DatabaseBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Semaphore bulkhead that caps the number of connections handed out at once.
+ * <p>
+ * With virtual threads every request gets its own thread, so a latency spike in the
+ * database no longer stops at the size of the web thread pool; thousands of requests
+ * would pile up waiting for a connection. The bulkhead holds as many permits as the
+ * connection pool has connections. A permit is taken when a connection is obtained, which
+ * for a transaction is when it begins, and released when the connection is closed, which
+ * for a transaction is when it ends. A caller that cannot get a permit within
+ * {@code db.bulkhead.max-wait} fails fast with {@link DatabaseBusyException} instead of
+ * queueing for the pool's connection timeout. Requests served from the cache never obtain a
+ * connection and are not affected.
+ * <p>
+ * Available permits and rejections are published as {@code db.bulkhead.available}
+ * and {@code db.bulkhead.rejected}.
+ *
+ * @since 1.0
+ */
+@Slf4j
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Counter rejected;
+
+    /**
+     * @param target data source whose connections are capped
+     * @param maxConnections number of connections that may be open at once
+     * @param maxWait how long a caller waits for a permit before it is rejected
+     * @param meterRegistry registry for bulkhead metrics
+     */
+    public BulkheadDataSource(DataSource target, int maxConnections, Duration maxWait, MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.rejected = Counter.builder("db.bulkhead.rejected").register(meterRegistry);
+        Gauge.builder("db.bulkhead.available", permits, Semaphore::availablePermits).register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        log.warn("Rejected connection request - database bulkhead is full");
+        throw new DatabaseBusyException("Database is busy, please retry later");
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        permits.release();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
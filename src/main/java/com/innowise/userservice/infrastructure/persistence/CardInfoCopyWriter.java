@@ -0,0 +1,71 @@
+package com.innowise.userservice.infrastructure.persistence;
+
+import com.innowise.userservice.domain.entity.CardInfo;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes {@link CardInfo} rows into {@code card_info} through the PostgreSQL {@code COPY} protocol.
+ * <p>
+ * {@code COPY FROM STDIN} streams all rows of a chunk in one statement, skipping per-row
+ * statement parsing, parameter binding and round trips. The copy runs on the connection of
+ * the current transaction, so it commits or rolls back together with the caller. Rows are
+ * written as given: ids must already be assigned and user references must already be verified.
+ *
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CardInfoCopyWriter {
+
+    private static final String COPY_SQL =
+            "COPY card_info (id, user_id, number, holder, expiration_date) FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+
+    /**
+     * Copies the given cards into {@code card_info}.
+     *
+     * @param cards cards with assigned ids and existing owners
+     * @return number of rows written
+     */
+    public long copy(List<CardInfo> cards) {
+        if (cards.isEmpty()) {
+            return 0;
+        }
+        StringBuilder csv = new StringBuilder(cards.size() * 96);
+        for (CardInfo card : cards) {
+            csv.append(card.getId()).append(',')
+                    .append(card.getUser().getId()).append(',');
+            appendQuoted(csv, card.getNumber());
+            csv.append(',');
+            appendQuoted(csv, card.getHolder());
+            csv.append(',').append(card.getExpirationDate()).append('\n');
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Failed to copy card_info rows", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static void appendQuoted(StringBuilder csv, String value) {
+        csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,60 @@
+package com.innowise.userservice.infrastructure.persistence;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs reads that feed the cache against the primary database.
+ * <p>
+ * With read-replica routing, read-only transactions may be served by a replica that lags
+ * behind the primary. That is acceptable for a single response, but a cache fill would keep
+ * the stale result for the full cache TTL, and a negative marker would hide a row created
+ * moments ago for the negative-cache TTL. Reads passed to {@link #read(Supplier)} run in a
+ * read-write transaction, which routing always sends to the primary; repository calls inside
+ * join it. Without replicas this is an ordinary short transaction.
+ * <p>
+ * Under the default read-committed isolation every statement sees its own snapshot, so reads
+ * that assemble one cached value from several queries go through {@link #readSnapshot(Supplier)},
+ * which runs them at repeatable read and thus against a single snapshot.
+ *
+ * @see com.innowise.userservice.infrastructure.config.ReadReplicaConfig
+ * @since 1.0
+ */
+@Component
+public class PrimaryReader {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTransactionTemplate;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Runs the given read on the primary database.
+     *
+     * @param read repository calls whose result is cached or negatively cached
+     * @param <T> type parameter
+     * @return the result of the read
+     */
+    public <T> T read(Supplier<T> read) {
+        return transactionTemplate.execute(status -> read.get());
+    }
+
+    /**
+     * Runs the given reads on the primary database in one transaction that sees a single snapshot.
+     *
+     * @param read repository calls whose combined result is cached
+     * @param <T> type parameter
+     * @return the result of the read
+     */
+    public <T> T readSnapshot(Supplier<T> read) {
+        return snapshotTransactionTemplate.execute(status -> read.get());
+    }
+}
@@ -0,0 +1,220 @@
+package com.innowise.userservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DataSource} that spreads read-only connections across a set of replicas.
+ * <p>
+ * A replica is chosen per connection according to the {@link Policy}. Replicas whose
+ * replication lag exceeds the configured maximum, or that could not be reached by the last
+ * lag check, are skipped; when no replica is usable the connection is taken from the primary
+ * instead. Lag is measured on a background thread at a fixed interval.
+ * <p>
+ * Per-target metrics are published as {@code datasource.routing.connections} (connections
+ * handed out, tagged with the target), {@code datasource.replica.in-flight} and
+ * {@code datasource.replica.lag}.
+ *
+ * @since 1.0
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /**
+     * Strategy for picking among usable replicas.
+     */
+    public enum Policy {
+        /** Each connection goes to the next replica in turn. */
+        ROUND_ROBIN,
+        /** Each connection goes to the replica with the fewest open connections. */
+        LEAST_IN_FLIGHT
+    }
+
+    private static final String PRIMARY_TARGET = "primary";
+    private static final String ROUTING_METRIC = "datasource.routing.connections";
+    private static final String LAG_QUERY = """
+            SELECT CASE WHEN pg_is_in_recovery()
+                             AND pg_last_wal_receive_lsn() IS DISTINCT FROM pg_last_wal_replay_lsn()
+                        THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                        ELSE 0 END""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Policy policy;
+    private final long maxLagMillis;
+    private final Counter primaryConnections;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    /**
+     * @param primary data source used when no replica is usable
+     * @param replicas replica data sources by target name, in routing order
+     * @param policy strategy for picking among usable replicas
+     * @param maxLag replicas lagging further behind than this are skipped
+     * @param lagCheckInterval how often replication lag is measured; zero or negative disables the background check
+     * @param meterRegistry registry for per-target metrics
+     */
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    Policy policy,
+                                    Duration maxLag,
+                                    Duration lagCheckInterval,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.policy = policy;
+        this.maxLagMillis = maxLag.toMillis();
+        this.primaryConnections = Counter.builder(ROUTING_METRIC)
+                .tag("target", PRIMARY_TARGET)
+                .register(meterRegistry);
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, meterRegistry)));
+
+        if (lagCheckInterval.isPositive()) {
+            this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-checker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = lagCheckInterval.toMillis();
+            this.lagChecker.scheduleWithFixedDelay(this::refreshLag, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.lagChecker = null;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+        return replica.connect();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            primaryConnections.increment();
+            return primary.getConnection(username, password);
+        }
+        return replica.connect(username, password);
+    }
+
+    /**
+     * Measures the replication lag of every replica and updates which replicas are usable.
+     */
+    public void refreshLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                replica.lagMillis = resultSet.next() ? Math.round(resultSet.getDouble(1)) : 0;
+                replica.reachable = true;
+            } catch (SQLException e) {
+                replica.reachable = false;
+                log.warn("Replica {} is unreachable: {}", replica.name, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica selectReplica() {
+        List<Replica> usable = replicas.stream()
+                .filter(replica -> replica.reachable && replica.lagMillis <= maxLagMillis)
+                .toList();
+        if (usable.isEmpty()) {
+            return null;
+        }
+        return switch (policy) {
+            case ROUND_ROBIN -> usable.get(Math.floorMod(next.getAndIncrement(), usable.size()));
+            case LEAST_IN_FLIGHT -> usable.stream()
+                    .min(Comparator.comparingInt(replica -> replica.inFlight.get()))
+                    .orElseThrow();
+        };
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Counter connections;
+        private volatile long lagMillis;
+        private volatile boolean reachable = true;
+
+        private Replica(String name, DataSource dataSource, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.connections = Counter.builder(ROUTING_METRIC)
+                    .tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.in-flight", inFlight, AtomicInteger::get)
+                    .tag("target", name)
+                    .register(meterRegistry);
+            TimeGauge.builder("datasource.replica.lag", this, TimeUnit.MILLISECONDS, replica -> replica.lagMillis)
+                    .tag("target", name)
+                    .register(meterRegistry);
+        }
+
+        private Connection connect() throws SQLException {
+            return track(dataSource.getConnection());
+        }
+
+        private Connection connect(String username, String password) throws SQLException {
+            return track(dataSource.getConnection(username, password));
+        }
+
+        private Connection track(Connection connection) {
+            connections.increment();
+            inFlight.incrementAndGet();
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                            inFlight.decrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.innowise.userservice.presentation.controller;
 
 import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
+import com.innowise.userservice.application.dto.response.CardBatchGetResponse;
+import com.innowise.userservice.application.dto.response.CardImportResponse;
 import com.innowise.userservice.application.dto.response.CardInfoResponse;
+import com.innowise.userservice.application.service.CardImportService;
 import com.innowise.userservice.application.service.CardInfoService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +23,7 @@ import java.util.UUID;
  * REST controller for managing card information operations.
  * 
  * Provides endpoints for creating, retrieving, and deleting card information records.
+ * Responses are JSON unless the {@code Accept} header asks for CBOR or Smile.
  *
  * @since 1.0
  */
@@ -25,7 +32,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CardInfoController {
 
+    private static final int MAX_BATCH_SIZE = 10000;
+
     private final CardInfoService cardInfoService;
+    private final CardImportService cardImportService;
 
     /**
      * Creates a new card information record.
@@ -47,6 +57,25 @@ public class CardInfoController {
                 body(cardInfoService.createCardInfo(request));
     }
 
+    /**
+     * Imports cards in bulk from a CSV body with the header {@code user_id,number,holder,expiration_date}.
+     * The body is streamed, so files of millions of rows can be imported in one request.
+     *
+     * @param csv the CSV request body
+     * @return counts of imported and rejected rows as {@link CardImportResponse}
+     *
+     * Possible responses:
+     * <ul>
+     *   <li>200 OK — import finished, invalid rows are reported in the response</li>
+     *   <li>400 Bad Request — the body does not start with the expected header</li>
+     *   <li>500 Internal Server Error — unexpected error</li>
+     * </ul>
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<CardImportResponse> importCards(InputStream csv) {
+        return ResponseEntity.ok(cardImportService.importCards(csv));
+    }
+
     /**
      * Deletes card information by its unique identifier.
      *
@@ -84,6 +113,27 @@ public class CardInfoController {
         return ResponseEntity.ok(cardInfoService.getCardInfoById(id));
     }
 
+    /**
+     * Retrieves many cards by identifiers passed in the request body.
+     * Cached cards are served from the cache and only the rest are read from the database;
+     * unknown identifiers are listed in {@code missing}.
+     *
+     * @param ids unique identifiers of the cards to retrieve, at most {@value #MAX_BATCH_SIZE} items
+     * @return the found cards and the missing identifiers as {@link CardBatchGetResponse}
+     *
+     * Possible responses:
+     * <ul>
+     *   <li>200 OK — batch processed, ids of non-existing cards are listed in {@code missing}</li>
+     *   <li>400 Bad Request — invalid input data or batch size</li>
+     *   <li>500 Internal Server Error — unexpected error</li>
+     * </ul>
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<CardBatchGetResponse> getCardInfosBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull UUID> ids) {
+        return ResponseEntity.ok(cardInfoService.getCardInfosBatch(ids));
+    }
+
     /**
      * Retrieves all card information records associated with a specific user.
      *
@@ -1,16 +1,37 @@
 package com.innowise.userservice.presentation.controller;
 
+import com.innowise.userservice.application.dto.cache.UserJsonCacheDto;
 import com.innowise.userservice.application.dto.request.CreateUserRequest;
 import com.innowise.userservice.application.dto.request.UpdateUserRequest;
+import com.innowise.userservice.application.dto.response.UserBatchDeleteResponse;
+import com.innowise.userservice.application.dto.response.UserBatchGetResponse;
+import com.innowise.userservice.application.dto.response.UserCreationResult;
+import com.innowise.userservice.application.dto.response.UserPageResponse;
 import com.innowise.userservice.application.dto.response.UserResponse;
+import com.innowise.userservice.application.exception.preconditionfailed.UserVersionMismatchException;
 import com.innowise.userservice.application.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,15 +39,28 @@ import java.util.UUID;
  * REST controller for managing user operations.
  * 
  * Provides endpoints for creating, updating, retrieving, and deleting users.
+ * Responses are JSON unless the {@code Accept} header asks for CBOR or Smile.
  *
  * @since 1.0
  */
 @RestController
 @RequestMapping("/api/users")
-@RequiredArgsConstructor
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 10000;
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final boolean responseBytesCacheEnabled;
+
+    public UserController(UserService userService,
+                          ObjectMapper objectMapper,
+                          @Value("${cache.response-bytes.enabled}") boolean responseBytesCacheEnabled) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.responseBytesCacheEnabled = responseBytesCacheEnabled;
+    }
 
     /**
      * Creates a new user with the provided details.
@@ -47,12 +81,36 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userService.createUser(request));
     }
 
+    /**
+     * Creates many users in a single request with one set-based insert.
+     *
+     * @param requests the user creation details, at most {@value #MAX_BATCH_SIZE} items
+     * @return one {@link UserCreationResult} per request item, in request order
+     *
+     * Possible responses:
+     * <ul>
+     *   <li>200 OK — batch processed, per-item status codes are 201 Created or 409 Conflict</li>
+     *   <li>400 Bad Request — invalid input data or batch size</li>
+     *   <li>500 Internal Server Error — unexpected error</li>
+     * </ul>
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserCreationResult>> createUsers(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid CreateUserRequest> requests) {
+        return ResponseEntity.ok(userService.createUsers(requests));
+    }
+
     /**
      * Updates an existing user's information.
+     * When {@code If-Match} carries the entity tag of a user version, in any of its formats, the update
+     * is applied only if the user is still at that version; {@code If-Match: *} and an absent header
+     * update unconditionally.
      *
      * @param id unique identifier of the user to update
+     * @param ifMatch optional entity tag of the user version the update is based on
+     * @param accept media types acceptable to the caller
      * @param request the updated user details as {@link UpdateUserRequest}
-     * @return the updated user as {@link UserResponse}
+     * @return the updated user as {@link UserResponse} with its new entity tag
      *
      * Possible responses:
      * <ul>
@@ -60,12 +118,20 @@ public class UserController {
      *   <li>400 Bad Request — invalid input data</li>
      *   <li>404 Not Found — user not found</li>
      *   <li>409 Conflict — updated email already exists for another user</li>
+     *   <li>412 Precondition Failed — user has been modified since the given entity tag</li>
      *   <li>500 Internal Server Error — unexpected error</li>
      * </ul>
      */
     @PutMapping("/{id}")
-    public ResponseEntity<UserResponse> updateUser(@PathVariable @NotNull UUID id, @RequestBody @Valid UpdateUserRequest request) {
-        return ResponseEntity.ok(userService.updateUser(id, request));
+    public ResponseEntity<UserResponse> updateUser(@PathVariable @NotNull UUID id,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                   @RequestBody @Valid UpdateUserRequest request) {
+        Long expectedVersion = expectedVersion(id, ifMatch);
+        UserResponse user = expectedVersion != null
+                ? userService.updateUser(id, request, expectedVersion)
+                : userService.updateUser(id, request);
+        return withETag(ResponseEntity.ok(), user, Representation.negotiate(accept));
     }
 
     /**
@@ -87,55 +153,145 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Deletes many users and their cards in one statement.
+     *
+     * @param ids unique identifiers of the users to delete, at most {@value #MAX_BATCH_SIZE} items
+     * @return the number of requested and deleted users as {@link UserBatchDeleteResponse}
+     *
+     * Possible responses:
+     * <ul>
+     *   <li>200 OK — batch processed, ids of non-existing users are ignored</li>
+     *   <li>400 Bad Request — invalid input data or batch size</li>
+     *   <li>500 Internal Server Error — unexpected error</li>
+     * </ul>
+     */
+    @PostMapping("/batch-delete")
+    public ResponseEntity<UserBatchDeleteResponse> deleteUsers(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull UUID> ids) {
+        return ResponseEntity.ok(userService.deleteUsers(ids));
+    }
+
     /**
      * Retrieves a user by their unique identifier.
+     * The response carries the user's version as its entity tag, suffixed with the format for
+     * CBOR and Smile (e.g. {@code "3-cbor"}), so every representation has its own tag; a request
+     * whose {@code If-None-Match} names the current tag gets 304 without a body.
+     * With {@code cache.response-bytes.enabled} the cached JSON body is written as is
+     * to callers that prefer JSON; binary formats are always serialized per request.
+     * A {@code fields} parameter limits the response to the named fields; unless it names
+     * {@code cards}, the user's cards are not loaded and the entity tag is weak.
      *
      * @param id unique identifier of the user to retrieve
-     * @return the user as {@link UserResponse}
+     * @param fields optional sparse fieldset, e.g. {@code fields=name,email}
+     * @param accept media types acceptable to the caller
+     * @return the user as {@link UserResponse}, or only its requested fields, with its entity tag
      *
      * Possible responses:
      * <ul>
      *   <li>200 OK — user found</li>
+     *   <li>304 Not Modified — user unchanged since the entity tag in {@code If-None-Match}</li>
+     *   <li>400 Bad Request — unknown field requested</li>
      *   <li>404 Not Found — user not found</li>
      *   <li>500 Internal Server Error — unexpected error</li>
      * </ul>
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable @NotNull UUID id) {
-        return ResponseEntity.ok(userService.getUserById(id));
+    public ResponseEntity<?> getUserById(@PathVariable @NotNull UUID id,
+                                         @RequestParam(required = false) List<String> fields,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Representation representation = Representation.negotiate(accept);
+        if (fields != null) {
+            UserFields userFields = UserFields.parse(fields);
+            UserResponse user = userService.getUserById(id, userFields.includesCards());
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (representation != null) {
+                builder.contentType(representation.mediaType);
+                if (user.version() != null) {
+                    builder.eTag("W/" + representation.eTag(user.version()));
+                }
+            }
+            return builder.body(userFields.select(user));
+        }
+        if (responseBytesCacheEnabled && representation == Representation.JSON) {
+            UserJsonCacheDto user = userService.getUserJsonById(id);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+            if (user.getVersion() != null) {
+                builder.eTag(representation.eTag(user.getVersion()));
+            }
+            return builder.body(user.getJson());
+        }
+        return withETag(ResponseEntity.ok(), userService.getUserById(id), representation);
     }
 
     /**
-     * Retrieves all users in the system.
+     * Retrieves one page of users ordered by id.
      *
-     * @return list of all users as {@link UserResponse}
+     * @param cursor continuation token returned with the previous page, omitted for the first page
+     * @param size maximum number of users on the page, defaults to {@code user.page.default-size}
+     * @return the page of users as {@link UserPageResponse}
      *
      * Possible responses:
      * <ul>
-     *   <li>200 OK — users found</li>
+     *   <li>200 OK — page returned, {@code nextCursor} is null on the last page</li>
+     *   <li>400 Bad Request — invalid cursor or page size</li>
      *   <li>500 Internal Server Error — unexpected error</li>
      * </ul>
      */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<UserPageResponse> getUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "${user.page.default-size}") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(userService.getUsers(cursor, size));
+    }
+
+    /**
+     * Exports every user with their cards as newline-delimited JSON, one {@link UserResponse} per line.
+     * The body is written while users are read from the database, so the export runs in constant memory.
+     *
+     * @return streamed body with all users
+     *
+     * Possible responses:
+     * <ul>
+     *   <li>200 OK — export streamed</li>
+     *   <li>500 Internal Server Error — unexpected error</li>
+     * </ul>
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = outputStream -> userService.exportUsers(user -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(user));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
      * Retrieves a user by their email address.
      *
      * @param email email address of the user to retrieve
-     * @return the user as {@link UserResponse}
+     * @param fields optional sparse fieldset; the user's cards are loaded only if it names {@code cards}
+     * @return the user as {@link UserResponse}, or only its requested fields
      *
      * Possible responses:
      * <ul>
      *   <li>200 OK — user found</li>
+     *   <li>400 Bad Request — unknown field requested</li>
      *   <li>404 Not Found — user not found</li>
      *   <li>500 Internal Server Error — unexpected error</li>
      * </ul>
      */
     @GetMapping("/email/{email}")
-    public ResponseEntity<UserResponse> getUserByEmail(@PathVariable String email) {
+    public ResponseEntity<?> getUserByEmail(@PathVariable String email,
+                                            @RequestParam(required = false) List<String> fields) {
+        if (fields != null) {
+            UserFields userFields = UserFields.parse(fields);
+            return ResponseEntity.ok(userFields.select(userService.getUserByEmail(email, userFields.includesCards())));
+        }
         return ResponseEntity.ok(userService.getUserByEmail(email));
     }
 
@@ -143,17 +299,149 @@ public class UserController {
      * Retrieves multiple users by their unique identifiers.
      *
      * @param ids list of unique identifiers of users to retrieve
-     * @return list of found users as {@link UserResponse}
+     * @param fields optional sparse fieldset; the users' cards are loaded only if it names {@code cards}
+     * @return list of found users as {@link UserResponse}, or only their requested fields
      *
      * Possible responses:
      * <ul>
      *   <li>200 OK — users found</li>
+     *   <li>400 Bad Request — unknown field requested</li>
      *   <li>404 Not Found — one or more users not found</li>
      *   <li>500 Internal Server Error — unexpected error</li>
      * </ul>
      */
     @GetMapping("/by-ids")
-    public ResponseEntity<List<UserResponse>> getAllUsersByIds(@RequestParam @NotNull List<UUID> ids) {
+    public ResponseEntity<List<?>> getAllUsersByIds(@RequestParam @NotNull List<UUID> ids,
+                                                    @RequestParam(required = false) List<String> fields) {
+        if (fields != null) {
+            UserFields userFields = UserFields.parse(fields);
+            return ResponseEntity.ok(userService.getAllUsersByIds(ids, userFields.includesCards()).stream()
+                    .map(userFields::select)
+                    .toList());
+        }
         return ResponseEntity.ok(userService.getAllUsersByIds(ids));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Retrieves many users with their cards by identifiers passed in the request body.
+     * Unlike {@code /by-ids}, unknown identifiers do not fail the request; they are
+     * listed in {@code missing}.
+     *
+     * @param ids unique identifiers of the users to retrieve, at most {@value #MAX_BATCH_SIZE} items
+     * @return the found users and the missing identifiers as {@link UserBatchGetResponse}
+     *
+     * Possible responses:
+     * <ul>
+     *   <li>200 OK — batch processed, ids of non-existing users are listed in {@code missing}</li>
+     *   <li>400 Bad Request — invalid input data or batch size</li>
+     *   <li>500 Internal Server Error — unexpected error</li>
+     * </ul>
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<UserBatchGetResponse> getUsersBatch(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@NotNull UUID> ids) {
+        return ResponseEntity.ok(userService.getUsersBatch(ids));
+    }
+
+    /**
+     * Sets the user's version as a strong entity tag of the negotiated representation and pins
+     * the content type to it. A matching {@code If-None-Match} on a GET is then answered with 304
+     * by Spring MVC before the body is serialized. Without an acceptable representation the body
+     * is left to content negotiation, which rejects the request.
+     */
+    private static ResponseEntity<UserResponse> withETag(ResponseEntity.BodyBuilder builder, UserResponse user,
+                                                         Representation representation) {
+        if (representation != null) {
+            builder.contentType(representation.mediaType);
+            if (user.version() != null) {
+                builder.eTag(representation.eTag(user.version()));
+            }
+        }
+        return builder.body(user);
+    }
+
+    /**
+     * Extracts the version named by an {@code If-Match} header, or {@code null} for an
+     * unconditional update. Only a single strong entity tag can name a version.
+     */
+    private static Long expectedVersion(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+        if (tags.size() == 1 && !tags.get(0).weak()) {
+            try {
+                return Long.parseLong(Representation.version(tags.get(0).tag()));
+            } catch (NumberFormatException e) {
+                // falls through to the mismatch below
+            }
+        }
+        throw new UserVersionMismatchException("User with id " + id + " does not match " + ifMatch);
+    }
+
+    /**
+     * Formats a user can be written in, in order of preference when the caller accepts several
+     * equally. Each has its own entity tag suffix, so a tag never matches a body in another format.
+     */
+    private enum Representation {
+        JSON(MediaType.APPLICATION_JSON, ""),
+        CBOR(MediaType.APPLICATION_CBOR, "-cbor"),
+        SMILE(new MediaType("application", "x-jackson-smile"), "-smile");
+
+        private final MediaType mediaType;
+        private final String tagSuffix;
+
+        Representation(MediaType mediaType, String tagSuffix) {
+            this.mediaType = mediaType;
+            this.tagSuffix = tagSuffix;
+        }
+
+        String eTag(long version) {
+            return "\"" + version + tagSuffix + "\"";
+        }
+
+        /**
+         * Picks the representation the caller prefers most. A missing header counts as JSON,
+         * which is the default format; {@code null} means no representation is acceptable.
+         */
+        static Representation negotiate(String accept) {
+            if (accept == null || accept.isBlank()) {
+                return JSON;
+            }
+            List<MediaType> acceptedTypes;
+            try {
+                acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            } catch (InvalidMediaTypeException e) {
+                return null;
+            }
+            MimeTypeUtils.sortBySpecificity(acceptedTypes);
+            acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType acceptedType : acceptedTypes) {
+                if (acceptedType.getQualityValue() == 0) {
+                    break;
+                }
+                for (Representation representation : values()) {
+                    if (acceptedType.includes(representation.mediaType)) {
+                        return representation;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Strips the format suffix from an entity tag, leaving the version it names.
+         */
+        static String version(String tag) {
+            for (Representation representation : values()) {
+                if (!representation.tagSuffix.isEmpty() && tag.endsWith(representation.tagSuffix)) {
+                    return tag.substring(0, tag.length() - representation.tagSuffix.length());
+                }
+            }
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.innowise.userservice.presentation.controller;
+
+import com.innowise.userservice.application.dto.response.UserResponse;
+import com.innowise.userservice.application.exception.badrequest.InvalidFieldsException;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldset of a user representation, parsed from the {@code fields} request parameter.
+ * <p>
+ * Only the requested fields are written to the response. Whether {@code cards} is requested
+ * is passed down to the service, which skips loading cards entirely when it is not.
+ *
+ * @since 1.0
+ */
+final class UserFields {
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String SURNAME = "surname";
+    static final String BIRTH_DATE = "birthDate";
+    static final String EMAIL = "email";
+    static final String CARDS = "cards";
+
+    private static final List<String> ALL = List.of(ID, NAME, SURNAME, BIRTH_DATE, EMAIL, CARDS);
+
+    private final Set<String> requested;
+
+    private UserFields(Set<String> requested) {
+        this.requested = requested;
+    }
+
+    /**
+     * Parses the requested field names.
+     *
+     * @param fields field names as bound from the request, blank entries are ignored
+     * @return the fieldset
+     * @throws InvalidFieldsException if a name is not a field of {@link UserResponse}
+     *                                or no field is requested
+     */
+    static UserFields parse(List<String> fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field != null && !field.isBlank()) {
+                requested.add(field.trim());
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidFieldsException("At least one field must be requested, available fields: " + ALL);
+        }
+        List<String> unknown = requested.stream().filter(field -> !ALL.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new InvalidFieldsException("Unknown fields " + unknown + ", available fields: " + ALL);
+        }
+        return new UserFields(requested);
+    }
+
+    boolean includesCards() {
+        return requested.contains(CARDS);
+    }
+
+    /**
+     * Returns the requested fields of the given user in declaration order.
+     *
+     * @param user the user to project
+     * @return field names mapped to their values, including {@code null} values
+     */
+    Map<String, Object> select(UserResponse user) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        putIfRequested(body, ID, user.id());
+        putIfRequested(body, NAME, user.name());
+        putIfRequested(body, SURNAME, user.surname());
+        putIfRequested(body, BIRTH_DATE, user.birthDate());
+        putIfRequested(body, EMAIL, user.email());
+        putIfRequested(body, CARDS, user.cards());
+        return body;
+    }
+
+    private void putIfRequested(Map<String, Object> body, String field, Object value) {
+        if (requested.contains(field)) {
+            body.put(field, value);
+        }
+    }
+}
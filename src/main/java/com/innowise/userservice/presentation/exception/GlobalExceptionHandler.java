@@ -8,6 +8,7 @@ import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -25,10 +26,12 @@ import java.util.stream.Collectors;
  * 
  * Maps exceptions to the following HTTP status codes:
  * <ul>
- *   <li>400 Bad Request — for validation errors, unreadable messages, and constraint violations</li>
+ *   <li>400 Bad Request — for validation errors, unreadable messages, constraint violations, invalid cursors and unknown fields</li>
  *   <li>404 Not Found — for application-specific not found exceptions</li>
  *   <li>409 Conflict — for already exists exceptions</li>
+ *   <li>412 Precondition Failed — for conditional updates against a stale version</li>
  *   <li>500 Internal Server Error — for unexpected errors</li>
+ *   <li>503 Service Unavailable — for database calls shed by the bulkhead</li>
  * </ul>
  *
  * @since 1.0
@@ -147,6 +150,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles transactions that could not begin. When the cause is an application exception,
+     * such as a connection shed by the database bulkhead, it is answered like that exception.
+     *
+     * @param ex the transaction begin failure
+     * @param request the current web request
+     * @return API error response as {@link ApiError} with the cause's status, or HTTP 500 Internal Server Error
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiError> handleCannotCreateTransactionException(CannotCreateTransactionException ex,
+                                                                           WebRequest request) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof BaseException baseException) {
+                return handleBaseException(baseException, request);
+            }
+        }
+        return handleGlobalException(ex, request);
+    }
+
     /**
      * Handles all unexpected exceptions not explicitly handled elsewhere.
      *
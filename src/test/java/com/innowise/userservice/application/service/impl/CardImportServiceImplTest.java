@@ -0,0 +1,119 @@
+package com.innowise.userservice.application.service.impl;
+
+import com.innowise.userservice.application.dto.response.CardImportResponse;
+import com.innowise.userservice.application.exception.badrequest.InvalidCsvHeaderException;
+import com.innowise.userservice.application.service.CacheService;
+import com.innowise.userservice.domain.entity.CardInfo;
+import com.innowise.userservice.domain.repository.UserRepository;
+import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.infrastructure.persistence.CardInfoCopyWriter;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CardImportServiceImplTest {
+
+    private static final String HEADER = "user_id,number,holder,expiration_date\n";
+    private static final LocalDate EXPIRATION_DATE = LocalDate.now().plusYears(1);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CardInfoCopyWriter cardInfoCopyWriter;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CardImportServiceImpl cardImportService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cardImportService = new CardImportServiceImpl(userRepository, cardInfoCopyWriter, cacheService,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("Test import cards copies valid rows in chunks and evicts affected users once")
+    void importCards_shouldCopyChunksAndEvictAffectedUsers() {
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of(userId));
+        when(cardInfoCopyWriter.copy(anyList())).thenAnswer(invocation -> (long) invocation.<List<?>>getArgument(0).size());
+
+        CardImportResponse result = cardImportService.importCards(csv(
+                row(userId, "1111222233334444", "John Doe"),
+                row(userId, "5555666677778888", "\"Doe, John\""),
+                row(userId, "9999000011112222", "John Doe")));
+
+        assertEquals(new CardImportResponse(3, 0, List.of()), result);
+        verify(cardInfoCopyWriter, times(2)).copy(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(userRepository, times(2)).incrementVersions(Set.of(userId));
+        verify(cacheService).multiEvict(CacheKeys.getUserKeys(userId));
+    }
+
+    @Test
+    @DisplayName("Test import cards rejects input without the expected header")
+    void importCards_whenHeaderMissing_shouldRejectFile() {
+        ByteArrayInputStream body = new ByteArrayInputStream(
+                row(userId, "1111222233334444", "John Doe").getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(InvalidCsvHeaderException.class, () -> cardImportService.importCards(body));
+        verify(cardInfoCopyWriter, never()).copy(anyList());
+    }
+
+    @Test
+    @DisplayName("Test import cards rejects invalid rows and unknown users")
+    void importCards_whenRowsInvalid_shouldRejectThem() {
+        UUID unknownUserId = UUID.randomUUID();
+        when(userRepository.findExistingIds(any())).thenReturn(Set.of(userId));
+        ArgumentCaptor<List<CardInfo>> cards = ArgumentCaptor.forClass(List.class);
+        when(cardInfoCopyWriter.copy(cards.capture())).thenAnswer(invocation -> (long) invocation.<List<?>>getArgument(0).size());
+
+        CardImportResponse result = cardImportService.importCards(csv(
+                row(userId, "123", "John Doe"),
+                "not-a-uuid,1111222233334444,John Doe," + EXPIRATION_DATE,
+                row(unknownUserId, "1111222233334444", "John Doe"),
+                row(userId, "1111222233334444", "\"Doe, John\"")));
+
+        assertEquals(1, result.imported());
+        assertEquals(3, result.rejected());
+        assertEquals(3, result.errors().size());
+        assertEquals("Doe, John", cards.getAllValues().get(cards.getAllValues().size() - 1).get(0).getHolder());
+    }
+
+    private static String row(UUID userId, String number, String holder) {
+        return userId + "," + number + "," + holder + "," + EXPIRATION_DATE;
+    }
+
+    private static ByteArrayInputStream csv(String... rows) {
+        return new ByteArrayInputStream((HEADER + String.join("\n", rows)).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,6 +1,8 @@
 package com.innowise.userservice.application.service.impl;
 
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
 import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
+import com.innowise.userservice.application.dto.response.CardBatchGetResponse;
 import com.innowise.userservice.application.dto.response.CardInfoResponse;
 import com.innowise.userservice.application.exception.notfound.CardNotFoundException;
 import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
@@ -10,6 +12,9 @@ import com.innowise.userservice.domain.entity.CardInfo;
 import com.innowise.userservice.domain.entity.User;
 import com.innowise.userservice.domain.repository.CardInfoRepository;
 import com.innowise.userservice.domain.repository.UserRepository;
+import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.infrastructure.cache.NegativeCache;
+import com.innowise.userservice.infrastructure.persistence.PrimaryReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,17 +24,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,6 +62,12 @@ class CardInfoServiceImplTest {
     @Mock
     private CacheService cacheService;
 
+    @Mock
+    private NegativeCache negativeCache;
+
+    @Mock
+    private PrimaryReader primaryReader;
+
     @InjectMocks
     private CardInfoServiceImpl cardInfoService;
 
@@ -69,6 +88,8 @@ class CardInfoServiceImplTest {
         cardInfo.setId(cardId);
         cardInfo.setUser(user);
         cardInfoResponse = new CardInfoResponse(cardId, "1234567890123456", "John Doe", LocalDate.of(2025, 12, 31));
+        lenient().when(primaryReader.read(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     @Test
@@ -77,7 +98,7 @@ class CardInfoServiceImplTest {
         when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(user));
         when(cardInfoMapper.toEntity(any(CreateCardInfoRequest.class), any(User.class))).thenReturn(cardInfo);
         when(cardInfoRepository.save(any(CardInfo.class))).thenReturn(cardInfo);
-        doNothing().when(cacheService).evict(anyString());
+        doNothing().when(cacheService).multiEvict(anyCollection());
         when(cardInfoMapper.toResponse(any(CardInfo.class))).thenReturn(cardInfoResponse);
 
         CardInfoResponse result = cardInfoService.createCardInfo(createCardInfoRequest);
@@ -88,7 +109,8 @@ class CardInfoServiceImplTest {
         verify(userRepository).findById(userId);
         verify(cardInfoMapper).toEntity(createCardInfoRequest, user);
         verify(cardInfoRepository).save(cardInfo);
-        verify(cacheService).evict(anyString());
+        verify(userRepository).incrementVersions(List.of(userId));
+        verify(cacheService).multiEvict(anyCollection());
         verify(cardInfoMapper).toResponse(cardInfo);
     }
 
@@ -108,63 +130,115 @@ class CardInfoServiceImplTest {
     @Test
     @DisplayName("Test delete card info successfully")
     void deleteCardInfo_whenCardExists_shouldDeleteCard() {
-        when(cardInfoRepository.findById(any(UUID.class))).thenReturn(Optional.of(cardInfo));
-        doNothing().when(cardInfoRepository).deleteById(any(UUID.class));
-        doNothing().when(cacheService).evict(anyString());
+        when(cardInfoRepository.deleteByIdReturningUserId(cardId)).thenReturn(Optional.of(userId));
+        doNothing().when(cacheService).multiEvict(anyCollection());
 
         cardInfoService.deleteCardInfo(cardId);
 
-        verify(cardInfoRepository).findById(cardId);
-        verify(cardInfoRepository).deleteById(cardId);
-        verify(cacheService).evict(anyString());
+        verify(cardInfoRepository).deleteByIdReturningUserId(cardId);
+        verify(userRepository).incrementVersions(List.of(userId));
+        verify(cardInfoRepository, never()).findById(any(UUID.class));
+        verify(cacheService).multiEvict(Stream.concat(Stream.of(CacheKeys.getCardKey(cardId)),
+                CacheKeys.getUserKeys(userId).stream()).toList());
     }
 
     @Test
     @DisplayName("Test delete card info throws CardNotFoundException")
     void deleteCardInfo_whenCardNotFound_shouldThrowCardNotFoundException() {
-        when(cardInfoRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+        when(cardInfoRepository.deleteByIdReturningUserId(cardId)).thenReturn(Optional.empty());
 
         assertThrows(CardNotFoundException.class, () -> {
             cardInfoService.deleteCardInfo(cardId);
         });
 
-        verify(cardInfoRepository).findById(cardId);
-        verify(cardInfoRepository, never()).deleteById(any(UUID.class));
+        verify(cacheService, never()).multiEvict(anyCollection());
     }
 
     @Test
     @DisplayName("Test get card info by id successfully")
     void getCardInfoById_whenCardExists_shouldReturnCardInfo() {
-        when(cardInfoRepository.findByIdJPQL(any(UUID.class))).thenReturn(Optional.of(cardInfo));
-        when(cardInfoMapper.toResponse(any(CardInfo.class))).thenReturn(cardInfoResponse);
+        when(cardInfoRepository.findResponseById(any(UUID.class))).thenReturn(Optional.of(cardInfoResponse));
 
         CardInfoResponse result = cardInfoService.getCardInfoById(cardId);
 
         assertNotNull(result);
         assertEquals(cardInfoResponse, result);
 
-        verify(cardInfoRepository).findByIdJPQL(cardId);
-        verify(cardInfoMapper).toResponse(cardInfo);
+        verify(cardInfoRepository).findResponseById(cardId);
+        verify(cardInfoMapper, never()).toResponse(any(CardInfo.class));
+        verify(cacheService).put(eq(CacheKeys.getCardKey(cardId)), any());
+    }
+
+    @Test
+    @DisplayName("Test get card info by id from cache skips DB")
+    void getCardInfoById_whenCardInCache_shouldReturnCachedCard() {
+        CardInfoCacheDto cachedCard = new CardInfoCacheDto();
+        when(cacheService.get(CacheKeys.getCardKey(cardId), CardInfoCacheDto.class)).thenReturn(cachedCard);
+        when(cardInfoMapper.toResponse(cachedCard)).thenReturn(cardInfoResponse);
+
+        CardInfoResponse result = cardInfoService.getCardInfoById(cardId);
+
+        assertEquals(cardInfoResponse, result);
+        verify(cardInfoRepository, never()).findResponseById(any(UUID.class));
+        verify(negativeCache, never()).isMissing(any());
+    }
+
+    @Test
+    @DisplayName("Test batch get serves cached cards and queries only the misses")
+    void getCardInfosBatch_shouldQueryOnlyCacheMisses() {
+        UUID otherCardId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        CardInfoCacheDto cachedCard = new CardInfoCacheDto();
+        CardInfoCacheDto loadedCardDto = new CardInfoCacheDto();
+        CardInfo otherCard = new CardInfo();
+        CardInfoResponse otherResponse = new CardInfoResponse(otherCardId, "5555666677778888", "Jane Doe",
+                LocalDate.of(2030, 1, 31));
+        when(cacheService.multiGet(List.of(CacheKeys.getCardKey(cardId), CacheKeys.getCardKey(otherCardId),
+                CacheKeys.getCardKey(missingId)), CardInfoCacheDto.class))
+                .thenReturn(Arrays.asList(cachedCard, null, null));
+        when(cardInfoMapper.toResponse(cachedCard)).thenReturn(cardInfoResponse);
+        when(negativeCache.findMissing(anyList())).thenReturn(Set.of());
+        when(cardInfoRepository.findAllByIdsNative(List.of(otherCardId, missingId))).thenReturn(List.of(otherCard));
+        when(cardInfoMapper.toResponse(otherCard)).thenReturn(otherResponse);
+        when(cardInfoMapper.toCacheDto(otherResponse)).thenReturn(loadedCardDto);
+
+        CardBatchGetResponse result = cardInfoService.getCardInfosBatch(List.of(cardId, otherCardId, missingId, cardId));
+
+        assertEquals(List.of(cardInfoResponse, otherResponse), result.cards());
+        assertEquals(List.of(missingId), result.missing());
+        verify(cacheService).multiPut(Map.of(CacheKeys.getCardKey(otherCardId), loadedCardDto));
+        verify(negativeCache).markMissing(List.of(CacheKeys.getMissingCardKey(missingId)));
     }
 
     @Test
     @DisplayName("Test get card info by id throws CardNotFoundException")
     void getCardInfoById_whenCardNotFound_shouldThrowCardNotFoundException() {
-        when(cardInfoRepository.findByIdJPQL(any(UUID.class))).thenReturn(Optional.empty());
+        when(cardInfoRepository.findResponseById(any(UUID.class))).thenReturn(Optional.empty());
 
         assertThrows(CardNotFoundException.class, () -> {
             cardInfoService.getCardInfoById(cardId);
         });
 
-        verify(cardInfoRepository).findByIdJPQL(cardId);
-        verify(cardInfoMapper, never()).toResponse(any(CardInfo.class));
+        verify(cardInfoRepository).findResponseById(cardId);
+        verify(negativeCache).markMissing(CacheKeys.getMissingCardKey(cardId));
+    }
+
+    @Test
+    @DisplayName("Test get card info by id with negatively cached id skips DB")
+    void getCardInfoById_whenIdNegativelyCached_shouldThrowWithoutDbLookup() {
+        when(negativeCache.isMissing(CacheKeys.getMissingCardKey(cardId))).thenReturn(true);
+
+        assertThrows(CardNotFoundException.class, () -> {
+            cardInfoService.getCardInfoById(cardId);
+        });
+
+        verify(cardInfoRepository, never()).findResponseById(any(UUID.class));
     }
 
     @Test
     @DisplayName("Test get card info by user id successfully")
     void getCardInfoByUserId_whenUserExists_shouldReturnCardInfoList() {
-        when(cardInfoRepository.findByUserId(any(UUID.class))).thenReturn(Collections.singletonList(cardInfo));
-        when(cardInfoMapper.toResponse(any(CardInfo.class))).thenReturn(cardInfoResponse);
+        when(cardInfoRepository.findResponsesByUserId(any(UUID.class))).thenReturn(Collections.singletonList(cardInfoResponse));
 
         List<CardInfoResponse> result = cardInfoService.getCardInfoByUserId(userId);
 
@@ -172,14 +246,13 @@ class CardInfoServiceImplTest {
         assertEquals(1, result.size());
         assertEquals(cardInfoResponse, result.get(0));
 
-        verify(cardInfoRepository).findByUserId(userId);
-        verify(cardInfoMapper).toResponse(cardInfo);
+        verify(cardInfoRepository).findResponsesByUserId(userId);
     }
 
     @Test
     @DisplayName("Test get card info by user id with no cards")
     void getCardInfoByUserId_whenUserHasNoCards_shouldReturnEmptyList() {
-        when(cardInfoRepository.findByUserId(any(UUID.class))).thenReturn(Collections.emptyList());
+        when(cardInfoRepository.findResponsesByUserId(any(UUID.class))).thenReturn(Collections.emptyList());
         when(userRepository.existsById(any(UUID.class))).thenReturn(true);
 
         List<CardInfoResponse> result = cardInfoService.getCardInfoByUserId(userId);
@@ -187,21 +260,21 @@ class CardInfoServiceImplTest {
         assertNotNull(result);
         assertEquals(0, result.size());
 
-        verify(cardInfoRepository).findByUserId(userId);
+        verify(cardInfoRepository).findResponsesByUserId(userId);
         verify(userRepository).existsById(userId);
     }
 
     @Test
     @DisplayName("Test get card info by user id throws UserNotFoundException")
     void getCardInfoByUserId_whenUserNotFound_shouldThrowUserNotFoundException() {
-        when(cardInfoRepository.findByUserId(any(UUID.class))).thenReturn(Collections.emptyList());
+        when(cardInfoRepository.findResponsesByUserId(any(UUID.class))).thenReturn(Collections.emptyList());
         when(userRepository.existsById(any(UUID.class))).thenReturn(false);
 
         assertThrows(UserNotFoundException.class, () -> {
             cardInfoService.getCardInfoByUserId(userId);
         });
 
-        verify(cardInfoRepository).findByUserId(userId);
+        verify(cardInfoRepository).findResponsesByUserId(userId);
         verify(userRepository).existsById(userId);
     }
 } 
\ No newline at end of file
@@ -1,27 +1,44 @@
 package com.innowise.userservice.application.service.impl;
 
+import com.innowise.userservice.application.dto.projection.DeletedUserRow;
+import com.innowise.userservice.application.dto.projection.UserCardRow;
 import com.innowise.userservice.application.dto.request.CreateUserRequest;
+import com.innowise.userservice.application.dto.response.CardInfoResponse;
+import com.innowise.userservice.application.dto.response.UserBatchDeleteResponse;
+import com.innowise.userservice.application.dto.response.UserBatchGetResponse;
+import com.innowise.userservice.application.dto.response.UserCreationResult;
+import com.innowise.userservice.application.dto.response.UserPageResponse;
 import com.innowise.userservice.application.dto.response.UserResponse;
 import com.innowise.userservice.application.exception.alreadyexists.UserAlreadyExists;
+import com.innowise.userservice.application.exception.badrequest.InvalidCursorException;
 import com.innowise.userservice.application.mapper.CacheMapper;
 import com.innowise.userservice.application.mapper.UserMapper;
 import com.innowise.userservice.application.service.CacheService;
+import com.innowise.userservice.domain.entity.CardInfo;
 import com.innowise.userservice.domain.entity.User;
+import com.innowise.userservice.domain.repository.CardInfoRepository;
 import com.innowise.userservice.domain.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
@@ -29,16 +46,38 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 
+import com.innowise.userservice.application.dto.cache.CacheEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
 import com.innowise.userservice.application.dto.cache.UserCacheDto;
+import com.innowise.userservice.application.dto.cache.UserJsonCacheDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.innowise.userservice.application.dto.request.UpdateUserRequest;
 import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
+import com.innowise.userservice.application.exception.preconditionfailed.UserVersionMismatchException;
 import java.util.Optional;
+import com.innowise.userservice.infrastructure.cache.BatchLoader;
+import com.innowise.userservice.infrastructure.cache.BatchLoaderFactory;
 import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.infrastructure.cache.EarlyRefresher;
+import com.innowise.userservice.infrastructure.cache.NegativeCache;
+import com.innowise.userservice.infrastructure.cache.SingleFlightLoader;
+import com.innowise.userservice.infrastructure.persistence.PrimaryReader;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.LinkedHashSet;
 import java.util.Collections;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +86,9 @@ class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CardInfoRepository cardInfoRepository;
+
     @Mock
     private UserMapper userMapper;
 
@@ -56,6 +98,27 @@ class UserServiceImplTest {
     @Mock
     private CacheMapper cacheMapper;
 
+    @Mock
+    private SingleFlightLoader singleFlightLoader;
+
+    @Mock
+    private NegativeCache negativeCache;
+
+    @Mock
+    private EarlyRefresher earlyRefresher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private BatchLoaderFactory batchLoaderFactory;
+
+    @Mock
+    private PrimaryReader primaryReader;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -71,15 +134,20 @@ class UserServiceImplTest {
         user = new User();
         user.setId(UUID.randomUUID());
         user.setEmail("john.doe@example.com");
-        userResponse = new UserResponse(user.getId(), "Jane", "Doe", LocalDate.of(1990, 5, 15), "jane.doe@example.com", new ArrayList<>());
+        userResponse = new UserResponse(user.getId(), "Jane", "Doe", LocalDate.of(1990, 5, 15), "jane.doe@example.com", new ArrayList<>(), 0L);
+        lenient().when(singleFlightLoader.load(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        lenient().when(primaryReader.read(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(primaryReader.readSnapshot(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
     }
 
     @Test
     @DisplayName("Test create user successfully")
     void createUser_whenEmailNotExists_shouldCreateUser() {
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(user);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.insertIfEmailAbsent(user)).thenReturn(Optional.of(UUID.randomUUID()));
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
 
         UserResponse result = userService.createUser(createUserRequest);
@@ -88,102 +156,284 @@ class UserServiceImplTest {
         assertEquals(userResponse, result);
         assertEquals(userResponse.id(), result.id());
 
-        verify(userRepository).existsByEmail(createUserRequest.email());
         verify(userMapper).toEntity(createUserRequest);
-        verify(userRepository).save(user);
+        verify(userRepository).insertIfEmailAbsent(user);
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).save(any(User.class));
         verify(userMapper).toResponse(user);
     }
 
     @Test
     @DisplayName("Test create user throws UserAlreadyExists")
     void createUser_whenEmailExists_shouldThrowUserAlreadyExists() {
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userMapper.toEntity(any(CreateUserRequest.class))).thenReturn(user);
+        when(userRepository.insertIfEmailAbsent(user)).thenReturn(Optional.empty());
 
         assertThrows(UserAlreadyExists.class, () -> {
             userService.createUser(createUserRequest);
         });
 
-        verify(userRepository).existsByEmail(createUserRequest.email());
-        verify(userMapper, never()).toEntity(any(CreateUserRequest.class));
+        verify(userRepository).insertIfEmailAbsent(user);
         verify(userRepository, never()).save(any(User.class));
+        verify(negativeCache, never()).clear(anyString());
+    }
+
+    @Test
+    @DisplayName("Test create users in batch reports conflicts per item")
+    void createUsers_whenSomeEmailsTaken_shouldCreateOthersAndReportConflicts() {
+        CreateUserRequest takenRequest = new CreateUserRequest("Jane", "Doe", LocalDate.of(1990, 5, 15), "taken@example.com");
+        User takenUser = new User();
+        takenUser.setEmail(takenRequest.email());
+        when(userMapper.toEntity(createUserRequest)).thenReturn(user);
+        when(userMapper.toEntity(takenRequest)).thenReturn(takenUser);
+        when(userRepository.insertAllIfEmailAbsent(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> List.of(user.getId()));
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+
+        List<UserCreationResult> results = userService.createUsers(
+                List.of(createUserRequest, takenRequest, createUserRequest));
+
+        assertEquals(3, results.size());
+        assertEquals(new UserCreationResult(0, 201, userResponse, null), results.get(0));
+        assertEquals(409, results.get(1).statusCode());
+        assertEquals(409, results.get(2).statusCode());
+        verify(userRepository).insertAllIfEmailAbsent(any(), any(), any(),
+                any(), argThat(emails -> Arrays.equals(emails, new String[]{createUserRequest.email(), takenRequest.email()})));
+        verify(userRepository, never()).saveAll(anyList());
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
     @Test
     @DisplayName("Test update user successfully")
-    void updateUser_whenUserExists_shouldUpdateUser() {
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(user));
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+    void updateUser_whenUserExists_shouldUpdateInOneStatement() {
+        when(userRepository.updateById(user.getId(), updateUserRequest.name(), updateUserRequest.surname(),
+                updateUserRequest.birthDate(), updateUserRequest.email())).thenReturn(1);
+        when(userRepository.findWithCardsById(user.getId())).thenReturn(Optional.of(user));
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
-        doNothing().when(cacheService).evict(anyString());
+        doNothing().when(cacheService).multiEvict(anyCollection());
 
         UserResponse result = userService.updateUser(user.getId(), updateUserRequest);
 
         assertNotNull(result);
         assertEquals(userResponse, result);
 
-        verify(userRepository).findById(user.getId());
-        verify(userRepository).existsByEmail(updateUserRequest.email());
-        verify(userMapper).updateEntity(user, updateUserRequest);
-        verify(userRepository).save(user);
         verify(userMapper).toResponse(user);
-        verify(cacheService).evict(CacheKeys.getUserWithCardsKey(user.getId()));
+        verify(cacheService).multiEvict(CacheKeys.getUserKeys(user.getId()));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
     @DisplayName("Test update user throws UserNotFoundException")
     void updateUser_whenUserNotFound_shouldThrowUserNotFoundException() {
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+        when(userRepository.updateById(any(UUID.class), any(), any(), any(), any())).thenReturn(0);
 
         assertThrows(UserNotFoundException.class, () -> {
             userService.updateUser(user.getId(), updateUserRequest);
         });
 
-        verify(userRepository).findById(user.getId());
-        verify(userRepository, never()).existsByEmail(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(cacheService, never()).multiEvict(anyCollection());
     }
 
     @Test
     @DisplayName("Test update user throws UserAlreadyExists")
     void updateUser_whenEmailExists_shouldThrowUserAlreadyExists() {
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(user));
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userRepository.updateById(any(UUID.class), any(), any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("users_email_key"));
 
         assertThrows(UserAlreadyExists.class, () -> {
             userService.updateUser(user.getId(), updateUserRequest);
         });
 
-        verify(userRepository).findById(user.getId());
-        verify(userRepository).existsByEmail(updateUserRequest.email());
-        verify(userRepository, never()).save(any(User.class));
+        verify(cacheService, never()).multiEvict(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test conditional update applies a versioned update")
+    void updateUser_whenVersionMatches_shouldUpdateInOneStatement() {
+        when(userRepository.updateIfVersionMatches(user.getId(), 3L, updateUserRequest.name(),
+                updateUserRequest.surname(), updateUserRequest.birthDate(), updateUserRequest.email())).thenReturn(1);
+        when(userRepository.findWithCardsById(user.getId())).thenReturn(Optional.of(user));
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+
+        UserResponse result = userService.updateUser(user.getId(), updateUserRequest, 3L);
+
+        assertEquals(userResponse, result);
+        verify(cacheService).multiEvict(CacheKeys.getUserKeys(user.getId()));
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Test conditional update throws UserVersionMismatchException")
+    void updateUser_whenVersionIsStale_shouldThrowUserVersionMismatchException() {
+        when(userRepository.updateIfVersionMatches(any(UUID.class), anyLong(), any(), any(), any(), any())).thenReturn(0);
+        when(userRepository.existsById(user.getId())).thenReturn(true);
+
+        assertThrows(UserVersionMismatchException.class, () -> {
+            userService.updateUser(user.getId(), updateUserRequest, 2L);
+        });
+
+        verify(cacheService, never()).multiEvict(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test conditional update throws UserNotFoundException")
+    void updateUser_whenVersionedUserNotFound_shouldThrowUserNotFoundException() {
+        when(userRepository.updateIfVersionMatches(any(UUID.class), anyLong(), any(), any(), any(), any())).thenReturn(0);
+        when(userRepository.existsById(user.getId())).thenReturn(false);
+
+        assertThrows(UserNotFoundException.class, () -> {
+            userService.updateUser(user.getId(), updateUserRequest, 2L);
+        });
+    }
+
+    @Test
+    @DisplayName("Test get user by id batches concurrent lookups into one cache read and one query")
+    void getUserById_whenBatchingEnabled_shouldLoadMissesInOneQuery() {
+        User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        UUID missingId = UUID.randomUUID();
+        UserCacheDto cachedDto = new UserCacheDto();
+        UserCacheDto loadedDto = new UserCacheDto();
+        String cachedKey = CacheKeys.getUserWithCardsKey(user.getId());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        when(batchLoaderFactory.create(eq("user"), any())).thenAnswer(invocation -> Optional.of(new BatchLoader<UUID, UserCacheDto>(
+                invocation.getArgument(1), Duration.ofSeconds(5), 3, Duration.ofSeconds(5), Runnable::run,
+                scheduler, new SimpleMeterRegistry().summary("batch"))));
+        when(cacheService.multiGetEntries(anyList(), eq(UserCacheDto.class))).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                        .map(key -> key.equals(cachedKey) ? new CacheEntry<>(cachedDto, null) : null)
+                        .toList());
+        when(negativeCache.findMissing(anyList())).thenReturn(Set.of());
+        when(userRepository.findAllByIdIn(anyList())).thenReturn(List.of(otherUser));
+        when(cacheMapper.toUserCacheDto(otherUser)).thenReturn(loadedDto);
+        when(cacheMapper.toUser(any(UserCacheDto.class))).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        userService.initLoaders();
+
+        CompletableFuture<UserResponse> cached = CompletableFuture.supplyAsync(() -> userService.getUserById(user.getId()));
+        CompletableFuture<UserResponse> loaded = CompletableFuture.supplyAsync(() -> userService.getUserById(otherUser.getId()));
+        CompletableFuture<UserResponse> missing = CompletableFuture.supplyAsync(() -> userService.getUserById(missingId));
+
+        assertEquals(userResponse, cached.join());
+        assertEquals(userResponse, loaded.join());
+        CompletionException error = assertThrows(CompletionException.class, missing::join);
+        scheduler.shutdownNow();
+        assertEquals(UserNotFoundException.class, error.getCause().getClass());
+        verify(cacheService).multiGetEntries(anyList(), eq(UserCacheDto.class));
+        verify(userRepository).findAllByIdIn(argThat(ids -> ids.size() == 2
+                && ids.containsAll(List.of(otherUser.getId(), missingId))));
+        verify(cacheService).multiPut(Map.of(CacheKeys.getUserWithCardsKey(otherUser.getId()), loadedDto));
+        verify(negativeCache).markMissing(List.of(CacheKeys.getMissingUserKey(missingId)));
+        verify(cacheService, never()).getEntry(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test get user by id serves co-batched cache hits when the query for misses fails")
+    void getUserById_whenBatchQueryFails_shouldStillReturnCacheHits() {
+        UUID uncachedId = UUID.randomUUID();
+        UserCacheDto cachedDto = new UserCacheDto();
+        String cachedKey = CacheKeys.getUserWithCardsKey(user.getId());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        when(batchLoaderFactory.create(eq("user"), any())).thenAnswer(invocation -> Optional.of(new BatchLoader<UUID, UserCacheDto>(
+                invocation.getArgument(1), Duration.ofSeconds(5), 2, Duration.ofSeconds(5), Runnable::run,
+                scheduler, new SimpleMeterRegistry().summary("batch"))));
+        when(cacheService.multiGetEntries(anyList(), eq(UserCacheDto.class))).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                        .map(key -> key.equals(cachedKey) ? new CacheEntry<>(cachedDto, null) : null)
+                        .toList());
+        when(negativeCache.findMissing(anyList())).thenReturn(Set.of());
+        when(userRepository.findAllByIdIn(anyList())).thenThrow(new IllegalStateException("db down"));
+        when(cacheMapper.toUser(cachedDto)).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        userService.initLoaders();
+
+        CompletableFuture<UserResponse> cached = CompletableFuture.supplyAsync(() -> userService.getUserById(user.getId()));
+        CompletableFuture<UserResponse> uncached = CompletableFuture.supplyAsync(() -> userService.getUserById(uncachedId));
+
+        assertEquals(userResponse, cached.join());
+        CompletionException error = assertThrows(CompletionException.class, uncached::join);
+        scheduler.shutdownNow();
+        assertEquals(IllegalStateException.class, error.getCause().getClass());
+    }
+
+    @Test
+    @DisplayName("Test get user by id serves near cache hits without joining a batch")
+    void getUserById_whenInNearCache_shouldNotBatch() {
+        @SuppressWarnings("unchecked")
+        BatchLoader<UUID, UserCacheDto> userLoader = mock(BatchLoader.class);
+        UserCacheDto cachedDto = new UserCacheDto();
+        when(batchLoaderFactory.<UUID, UserCacheDto>create(eq("user"), any())).thenReturn(Optional.of(userLoader));
+        when(cacheService.getLocalEntry(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class))
+                .thenReturn(new CacheEntry<>(cachedDto, null));
+        when(cacheMapper.toUser(cachedDto)).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        userService.initLoaders();
+
+        assertEquals(userResponse, userService.getUserById(user.getId()));
+
+        verify(userLoader, never()).load(any());
     }
 
     @Test
     @DisplayName("Test delete user successfully")
     void deleteUser_whenUserExists_shouldDeleteUser() {
-        when(userRepository.existsById(any(UUID.class))).thenReturn(true);
-        doNothing().when(userRepository).deleteById(any(UUID.class));
-        doNothing().when(cacheService).evict(anyString());
+        when(userRepository.lockByIdIn(List.of(user.getId()))).thenReturn(List.of(user.getId()));
+        when(userRepository.deleteWithCardsByIdIn(List.of(user.getId()))).thenReturn(List.of(deletedUser(user.getId())));
+        doNothing().when(cacheService).multiEvict(anyCollection());
 
         userService.deleteUser(user.getId());
 
-        verify(userRepository).existsById(user.getId());
-        verify(userRepository).deleteById(user.getId());
-        verify(cacheService).evict(CacheKeys.getUserWithCardsKey(user.getId()));
+        verify(userRepository).deleteWithCardsByIdIn(List.of(user.getId()));
+        verify(userRepository, never()).existsById(any(UUID.class));
+        verify(userRepository, never()).deleteById(any(UUID.class));
+        verify(cacheService).multiEvict(CacheKeys.getUserKeys(user.getId()));
+    }
+
+    @Test
+    @DisplayName("Test delete user evicts the cached entries of the user's cards")
+    void deleteUser_whenUserHasCards_shouldEvictCardKeys() {
+        UUID cardId = UUID.randomUUID();
+        when(userRepository.lockByIdIn(List.of(user.getId()))).thenReturn(List.of(user.getId()));
+        when(userRepository.deleteWithCardsByIdIn(List.of(user.getId())))
+                .thenReturn(List.of(deletedUser(user.getId()), deletedCard(cardId)));
+
+        userService.deleteUser(user.getId());
+
+        verify(cacheService).multiEvict(Stream.concat(CacheKeys.getUserKeys(user.getId()).stream(),
+                Stream.of(CacheKeys.getCardKey(cardId))).toList());
     }
 
     @Test
     @DisplayName("Test delete user throws UserNotFoundException")
     void deleteUser_whenUserNotFound_shouldThrowUserNotFoundException() {
-        when(userRepository.existsById(any(UUID.class))).thenReturn(false);
+        when(userRepository.lockByIdIn(List.of(user.getId()))).thenReturn(List.of());
 
         assertThrows(UserNotFoundException.class, () -> {
             userService.deleteUser(user.getId());
         });
 
-        verify(userRepository).existsById(user.getId());
-        verify(userRepository, never()).deleteById(any(UUID.class));
+        verify(userRepository, never()).deleteWithCardsByIdIn(anyCollection());
+        verify(cacheService, never()).multiEvict(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Test delete users in batch evicts every requested key at once")
+    void deleteUsers_shouldDeleteLockedUsersInOneStatementAndEvictAllKeys() {
+        UUID otherId = UUID.randomUUID();
+        Set<UUID> ids = new LinkedHashSet<>(List.of(user.getId(), otherId));
+        UUID cardId = UUID.randomUUID();
+        when(userRepository.lockByIdIn(ids)).thenReturn(List.of(user.getId()));
+        when(userRepository.deleteWithCardsByIdIn(List.of(user.getId()))).thenReturn(List.of(deletedUser(user.getId()), deletedCard(cardId)));
+
+        UserBatchDeleteResponse result = userService.deleteUsers(List.of(user.getId(), otherId, user.getId()));
+
+        assertEquals(new UserBatchDeleteResponse(2, 1), result);
+        verify(cacheService).multiEvict(Stream.concat(
+                        Stream.of(user.getId(), otherId).flatMap(id -> CacheKeys.getUserKeys(id).stream()),
+                        Stream.of(CacheKeys.getCardKey(cardId)))
+                .toList());
         verify(cacheService, never()).evict(anyString());
     }
 
@@ -191,7 +441,7 @@ class UserServiceImplTest {
     @DisplayName("Test get user by id from cache")
     void getUserById_whenUserInCache_shouldReturnUserFromCache() {
         UserCacheDto cachedUserDto = new UserCacheDto();
-        when(cacheService.get(anyString(), any(Class.class))).thenReturn(cachedUserDto);
+        when(cacheService.getEntry(anyString(), any(Class.class))).thenReturn(new CacheEntry<>(cachedUserDto, null));
         when(cacheMapper.toUser(any(UserCacheDto.class))).thenReturn(user);
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
 
@@ -200,20 +450,117 @@ class UserServiceImplTest {
         assertNotNull(result);
         assertEquals(userResponse, result);
 
-        verify(cacheService).get(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class);
+        verify(cacheService).getEntry(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class);
         verify(cacheMapper).toUser(cachedUserDto);
         verify(userMapper).toResponse(user);
-        verify(userRepository, never()).findById(any(UUID.class));
+        verify(singleFlightLoader, never()).load(anyString(), any(), any());
+        verify(userRepository, never()).findWithCardsById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Test get user by id without cards loads the profile only")
+    void getUserById_whenCardsNotRequested_shouldLoadAndCacheProfile() {
+        UserCacheDto profileDto = new UserCacheDto();
+        UserResponse profileResponse = new UserResponse(user.getId(), "John", "Doe", null, user.getEmail(), null, 0L);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(cacheMapper.toUserProfileCacheDto(user)).thenReturn(profileDto);
+        when(cacheMapper.toUser(profileDto)).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(profileResponse);
+
+        UserResponse result = userService.getUserById(user.getId(), false);
+
+        assertEquals(profileResponse, result);
+        verify(cacheService).getEntry(CacheKeys.getUserProfileKey(user.getId()), UserCacheDto.class);
+        verify(cacheService).put(CacheKeys.getUserProfileKey(user.getId()), profileDto);
+        verify(userRepository, never()).findWithCardsById(any(UUID.class));
+        verify(cacheMapper, never()).toUserCacheDto(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Test get user by email without cards skips the card join")
+    void getUserByEmail_whenCardsNotRequested_shouldQueryProfileOnly() {
+        UserResponse profileResponse = new UserResponse(user.getId(), "John", "Doe", null, user.getEmail(), null, null);
+        when(userRepository.findProfileByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(userMapper.toResponse(user, null)).thenReturn(profileResponse);
+
+        UserResponse result = userService.getUserByEmail(user.getEmail(), false);
+
+        assertEquals(profileResponse, result);
+        verify(userRepository, never()).findRowsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("Test get users by ids without cards reads profile entries and queries profiles")
+    void getAllUsersByIds_whenCardsNotRequested_shouldUseProfiles() {
+        UserCacheDto profileDto = new UserCacheDto();
+        List<String> profileKeys = List.of(CacheKeys.getUserProfileKey(user.getId()));
+        when(cacheService.multiGetEntries(profileKeys, UserCacheDto.class)).thenReturn(Collections.singletonList(null));
+        when(negativeCache.findMissing(anyList())).thenReturn(Set.of());
+        when(userRepository.findProfilesByIdIn(List.of(user.getId()))).thenReturn(List.of(user));
+        when(cacheMapper.toUserProfileCacheDto(user)).thenReturn(profileDto);
+        when(cacheMapper.toUser(profileDto)).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+
+        List<UserResponse> result = userService.getAllUsersByIds(List.of(user.getId()), false);
+
+        assertEquals(List.of(userResponse), result);
+        verify(cacheService).multiPut(Map.of(CacheKeys.getUserProfileKey(user.getId()), profileDto));
+        verify(userRepository, never()).findAllByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("Test get user JSON by id serves cached bytes without loading the user")
+    void getUserJsonById_whenJsonInCache_shouldReturnCachedBytes() {
+        UserJsonCacheDto cachedJson = new UserJsonCacheDto(2L, "{}".getBytes());
+        when(cacheService.get(CacheKeys.getUserJsonKey(user.getId()), UserJsonCacheDto.class)).thenReturn(cachedJson);
+
+        UserJsonCacheDto result = userService.getUserJsonById(user.getId());
+
+        assertEquals(cachedJson, result);
+        verify(cacheService, never()).getEntry(anyString(), any());
+        verify(cacheService, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test get user JSON by id serializes and caches the response on a miss")
+    void getUserJsonById_whenJsonNotInCache_shouldSerializeAndCache() throws Exception {
+        UserCacheDto cachedUserDto = new UserCacheDto();
+        when(cacheService.getEntry(anyString(), any(Class.class))).thenReturn(new CacheEntry<>(cachedUserDto, null));
+        when(cacheMapper.toUser(cachedUserDto)).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+
+        UserJsonCacheDto result = userService.getUserJsonById(user.getId());
+
+        UserJsonCacheDto expected = new UserJsonCacheDto(userResponse.version(), objectMapper.writeValueAsBytes(userResponse));
+        assertEquals(expected, result);
+        verify(cacheService).put(CacheKeys.getUserJsonKey(user.getId()), expected);
+    }
+
+    @Test
+    @DisplayName("Test get user by id near expiry triggers background refresh")
+    void getUserById_whenEntryNearExpiry_shouldRefreshInBackground() {
+        CacheEntry<UserCacheDto> entry = new CacheEntry<>(new UserCacheDto(), Instant.now().plusMillis(10));
+        when(cacheService.getEntry(anyString(), any(Class.class))).thenReturn(entry);
+        when(earlyRefresher.shouldRefresh(entry)).thenReturn(true);
+        when(cacheMapper.toUser(entry.value())).thenReturn(user);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+
+        UserResponse result = userService.getUserById(user.getId());
+
+        assertEquals(userResponse, result);
+        verify(earlyRefresher).refreshInBackground(eq(CacheKeys.getUserWithCardsKey(user.getId())), any(Runnable.class));
+        verify(userRepository, never()).findWithCardsById(any(UUID.class));
     }
 
     @Test
     @DisplayName("Test get user by id from DB")
     void getUserById_whenUserNotInCache_shouldReturnUserFromDb() {
-        when(cacheService.get(anyString(), any(Class.class))).thenReturn(null);
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.of(user));
+        when(cacheService.getEntry(anyString(), any(Class.class))).thenReturn(null);
+        when(userRepository.findWithCardsById(any(UUID.class))).thenReturn(Optional.of(user));
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
         UserCacheDto userCacheDto = new UserCacheDto();
         when(cacheMapper.toUserCacheDto(any(User.class))).thenReturn(userCacheDto);
+        when(cacheMapper.toUser(userCacheDto)).thenReturn(user);
         doNothing().when(cacheService).put(anyString(), any());
 
         UserResponse result = userService.getUserById(user.getId());
@@ -221,8 +568,9 @@ class UserServiceImplTest {
         assertNotNull(result);
         assertEquals(userResponse, result);
 
-        verify(cacheService).get(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class);
-        verify(userRepository).findById(user.getId());
+        verify(cacheService).getEntry(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class);
+        verify(singleFlightLoader).load(eq(CacheKeys.getUserWithCardsKey(user.getId())), eq(UserCacheDto.class), any());
+        verify(userRepository).findWithCardsById(user.getId());
         verify(cacheMapper).toUserCacheDto(user);
         verify(cacheService).put(CacheKeys.getUserWithCardsKey(user.getId()), userCacheDto);
         verify(userMapper).toResponse(user);
@@ -231,60 +579,163 @@ class UserServiceImplTest {
     @Test
     @DisplayName("Test get user by id throws UserNotFoundException")
     void getUserById_whenUserNotFound_shouldThrowUserNotFoundException() {
-        when(cacheService.get(anyString(), any(Class.class))).thenReturn(null);
-        when(userRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+        when(cacheService.getEntry(anyString(), any(Class.class))).thenReturn(null);
+        when(userRepository.findWithCardsById(any(UUID.class))).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> {
             userService.getUserById(user.getId());
         });
 
-        verify(cacheService).get(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class);
-        verify(userRepository).findById(user.getId());
+        verify(cacheService).getEntry(CacheKeys.getUserWithCardsKey(user.getId()), UserCacheDto.class);
+        verify(userRepository).findWithCardsById(user.getId());
         verify(cacheService, never()).put(anyString(), any());
+        verify(negativeCache).markMissing(CacheKeys.getMissingUserKey(user.getId()));
     }
 
     @Test
-    @DisplayName("Test get all users")
-    void getAllUsers_shouldReturnListOfUsers() {
-        when(userRepository.findAllWithCards()).thenReturn(Collections.singletonList(user));
-        when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
+    @DisplayName("Test get user by id with negatively cached id skips DB")
+    void getUserById_whenIdNegativelyCached_shouldThrowWithoutDbLookup() {
+        when(cacheService.getEntry(anyString(), any(Class.class))).thenReturn(null);
+        when(negativeCache.isMissing(CacheKeys.getMissingUserKey(user.getId()))).thenReturn(true);
 
-        List<UserResponse> result = userService.getAllUsers();
+        assertThrows(UserNotFoundException.class, () -> {
+            userService.getUserById(user.getId());
+        });
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(userResponse, result.get(0));
+        verify(userRepository, never()).findWithCardsById(any(UUID.class));
+    }
 
-        verify(userRepository).findAllWithCards();
-        verify(userMapper).toResponse(user);
+    @Test
+    @DisplayName("Test batch get serves cached users, loads the rest and reports missing ids")
+    void getUsersBatch_whenSomeUsersMissing_shouldReturnFoundAndMissing() {
+        User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        UUID missingId = UUID.randomUUID();
+        UserCacheDto cachedDto = new UserCacheDto();
+        UserCacheDto loadedDto = new UserCacheDto();
+        CardInfo card = new CardInfo();
+        card.setUser(otherUser);
+        CardInfoCacheDto cardDto = new CardInfoCacheDto();
+        UserResponse otherResponse = new UserResponse(otherUser.getId(), "Jane", "Doe", null, "jane@example.com", List.of(), 0L);
+
+        when(cacheService.multiGetEntries(anyList(), eq(UserCacheDto.class)))
+                .thenReturn(Arrays.asList(new CacheEntry<>(cachedDto, null), null, null));
+        when(cacheMapper.toUser(cachedDto)).thenReturn(user);
+        when(negativeCache.findMissing(anyList())).thenReturn(Set.of());
+        when(userRepository.findProfilesByIdArray(any(UUID[].class))).thenReturn(List.of(otherUser));
+        when(cardInfoRepository.findByUserIdArray(new UUID[]{otherUser.getId()})).thenReturn(List.of(card));
+        when(cacheMapper.toUserProfileCacheDto(otherUser)).thenReturn(loadedDto);
+        when(cacheMapper.toCardCacheDto(card)).thenReturn(cardDto);
+        User loadedUser = new User();
+        when(cacheMapper.toUser(loadedDto)).thenReturn(loadedUser);
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        when(userMapper.toResponse(loadedUser)).thenReturn(otherResponse);
+
+        UserBatchGetResponse result = userService.getUsersBatch(List.of(user.getId(), otherUser.getId(), missingId, user.getId()));
+
+        assertEquals(List.of(userResponse, otherResponse), result.users());
+        assertEquals(List.of(missingId), result.missing());
+        assertEquals(List.of(cardDto), loadedDto.getCards());
+        verify(cacheService).multiPut(Map.of(CacheKeys.getUserWithCardsKey(otherUser.getId()), loadedDto));
+        verify(negativeCache).markMissing(List.of(CacheKeys.getMissingUserKey(missingId)));
+        verify(userRepository, never()).findAllByIdIn(anyList());
+        verify(primaryReader).readSnapshot(any());
+        verify(primaryReader, never()).read(any());
+    }
+
+    @Test
+    @DisplayName("Test get first users page")
+    void getUsers_whenMoreUsersThanPageSize_shouldReturnPageWithCursor() {
+        User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        CardInfo card = new CardInfo();
+        card.setUser(user);
+        when(userRepository.findAllByOrderByIdAsc(Limit.of(2))).thenReturn(Arrays.asList(user, otherUser));
+        when(cardInfoRepository.findByUserIdIn(List.of(user.getId()))).thenReturn(List.of(card));
+        when(userMapper.toResponse(user, List.of(card))).thenReturn(userResponse);
+
+        UserPageResponse result = userService.getUsers(null, 1);
+
+        assertEquals(List.of(userResponse), result.content());
+        assertEquals(user.getId(), KeysetCursor.decode(result.nextCursor()));
+        verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Test get last users page by cursor")
+    void getUsers_whenCursorGiven_shouldContinueAfterCursor() {
+        UUID after = UUID.randomUUID();
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(11))).thenReturn(List.of(user));
+        when(cardInfoRepository.findByUserIdIn(List.of(user.getId()))).thenReturn(List.of());
+        when(userMapper.toResponse(user, List.of())).thenReturn(userResponse);
+
+        UserPageResponse result = userService.getUsers(KeysetCursor.encode(after), 10);
+
+        assertEquals(List.of(userResponse), result.content());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Test get users page with malformed cursor throws InvalidCursorException")
+    void getUsers_whenCursorMalformed_shouldThrowInvalidCursorException() {
+        assertThrows(InvalidCursorException.class, () -> userService.getUsers("not-a-cursor", 10));
+
+        verify(userRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    @DisplayName("Test export users detaches each exported user")
+    void exportUsers_shouldPassEveryUserToConsumerAndDetach() {
+        when(userRepository.streamAllWithCards()).thenReturn(Stream.of(user));
+        when(userMapper.toResponse(user)).thenReturn(userResponse);
+        List<UserResponse> exported = new ArrayList<>();
+
+        userService.exportUsers(exported::add);
+
+        assertEquals(List.of(userResponse), exported);
+        verify(entityManager).detach(user);
     }
 
     @Test
     @DisplayName("Test get user by email successfully")
     void getUserByEmail_whenUserExists_shouldReturnUser() {
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(userMapper.toResponse(any(User.class))).thenReturn(userResponse);
+        UUID cardId = UUID.randomUUID();
+        LocalDate birthDate = LocalDate.of(1990, 5, 15);
+        LocalDate expirationDate = LocalDate.of(2030, 1, 31);
+        when(userRepository.findRowsByEmail(anyString())).thenReturn(List.of(
+                new UserCardRow(user.getId(), "John", "Doe", birthDate, user.getEmail(),
+                        cardId, "1111222233334444", "John Doe", expirationDate)));
 
         UserResponse result = userService.getUserByEmail(user.getEmail());
 
-        assertNotNull(result);
-        assertEquals(userResponse, result);
+        assertEquals(new UserResponse(user.getId(), "John", "Doe", birthDate, user.getEmail(),
+                List.of(new CardInfoResponse(cardId, "1111222233334444", "John Doe", expirationDate)), null), result);
 
-        verify(userRepository).findByEmail(user.getEmail());
-        verify(userMapper).toResponse(user);
+        verify(userRepository).findRowsByEmail(user.getEmail());
+        verify(userMapper, never()).toResponse(any(User.class));
+    }
+
+    @Test
+    @DisplayName("Test get user by email without cards")
+    void getUserByEmail_whenUserHasNoCards_shouldReturnEmptyCards() {
+        when(userRepository.findRowsByEmail(anyString())).thenReturn(List.of(
+                new UserCardRow(user.getId(), "John", "Doe", null, user.getEmail(), null, null, null, null)));
+
+        UserResponse result = userService.getUserByEmail(user.getEmail());
+
+        assertEquals(List.of(), result.cards());
     }
 
     @Test
     @DisplayName("Test get user by email throws UserNotFoundException")
     void getUserByEmail_whenUserNotFound_shouldThrowUserNotFoundException() {
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findRowsByEmail(anyString())).thenReturn(List.of());
 
         assertThrows(UserNotFoundException.class, () -> {
             userService.getUserByEmail(user.getEmail());
         });
 
-        verify(userRepository).findByEmail(user.getEmail());
-        verify(userMapper, never()).toResponse(any(User.class));
+        verify(userRepository).findRowsByEmail(user.getEmail());
     }
 
     @Test
@@ -298,7 +749,7 @@ class UserServiceImplTest {
         UserCacheDto userCacheDto1 = new UserCacheDto();
         UserCacheDto userCacheDto2 = new UserCacheDto();
 
-        when(cacheService.multiGet(any(), any(Class.class))).thenReturn(Arrays.asList(userCacheDto1, userCacheDto2));
+        when(cacheService.multiGetEntries(any(), any(Class.class))).thenReturn(Arrays.asList(new CacheEntry<>(userCacheDto1, null), new CacheEntry<>(userCacheDto2, null)));
         when(cacheMapper.toUser(userCacheDto1)).thenReturn(user);
         when(cacheMapper.toUser(userCacheDto2)).thenReturn(otherUser);
         when(userMapper.toResponse(any(User.class))).thenReturn(userResponse, new UserResponse(otherUser.getId(), "Other", "User", null, "other@test.com", Collections.emptyList()));
@@ -307,7 +758,7 @@ class UserServiceImplTest {
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(cacheService).multiGet(cacheKeys, UserCacheDto.class);
+        verify(cacheService).multiGetEntries(cacheKeys, UserCacheDto.class);
         verify(userRepository, never()).findAllByIdIn(any());
     }
 
@@ -321,13 +772,13 @@ class UserServiceImplTest {
         List<String> cacheKeys = userIds.stream().map(CacheKeys::getUserWithCardsKey).collect(Collectors.toList());
         UserCacheDto userCacheDto1 = new UserCacheDto();
 
-        when(cacheService.multiGet(any(), any(Class.class))).thenReturn(Arrays.asList(userCacheDto1, null));
+        when(cacheService.multiGetEntries(any(), any(Class.class))).thenReturn(Arrays.asList(new CacheEntry<>(userCacheDto1, null), null));
         when(cacheMapper.toUser(userCacheDto1)).thenReturn(user);
 
         when(userRepository.findAllByIdIn(Collections.singletonList(otherUser.getId()))).thenReturn(Collections.singletonList(otherUser));
 
         when(userMapper.toResponse(user)).thenReturn(userResponse);
-        UserResponse otherUserResponse = new UserResponse(otherUser.getId(), "Other", "User", null, "other@test.com", Collections.emptyList());
+        UserResponse otherUserResponse = new UserResponse(otherUser.getId(), "Other", "User", null, "other@test.com", Collections.emptyList(), 0L);
         when(userMapper.toResponse(otherUser)).thenReturn(otherUserResponse);
 
         UserCacheDto otherUserCacheDto = new UserCacheDto();
@@ -337,9 +788,9 @@ class UserServiceImplTest {
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(cacheService).multiGet(cacheKeys, UserCacheDto.class);
+        verify(cacheService).multiGetEntries(cacheKeys, UserCacheDto.class);
         verify(userRepository).findAllByIdIn(Collections.singletonList(otherUser.getId()));
-        verify(cacheService).put(CacheKeys.getUserWithCardsKey(otherUser.getId()), otherUserCacheDto);
+        verify(cacheService).multiPut(Map.of(CacheKeys.getUserWithCardsKey(otherUser.getId()), otherUserCacheDto));
     }
 
     @Test
@@ -351,11 +802,11 @@ class UserServiceImplTest {
         List<UUID> userIds = users.stream().map(User::getId).collect(Collectors.toList());
         List<String> cacheKeys = userIds.stream().map(CacheKeys::getUserWithCardsKey).collect(Collectors.toList());
 
-        when(cacheService.multiGet(any(), any(Class.class))).thenReturn(Arrays.asList(null, null));
+        when(cacheService.multiGetEntries(any(), any(Class.class))).thenReturn(Arrays.asList(null, null));
         when(userRepository.findAllByIdIn(userIds)).thenReturn(users);
 
         when(userMapper.toResponse(user)).thenReturn(userResponse);
-        UserResponse otherUserResponse = new UserResponse(otherUser.getId(), "Other", "User", null, "other@test.com", Collections.emptyList());
+        UserResponse otherUserResponse = new UserResponse(otherUser.getId(), "Other", "User", null, "other@test.com", Collections.emptyList(), 0L);
         when(userMapper.toResponse(otherUser)).thenReturn(otherUserResponse);
 
         UserCacheDto userCacheDto = new UserCacheDto();
@@ -365,10 +816,12 @@ class UserServiceImplTest {
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(cacheService).multiGet(cacheKeys, UserCacheDto.class);
+        verify(cacheService).multiGetEntries(cacheKeys, UserCacheDto.class);
         verify(userRepository).findAllByIdIn(userIds);
-        verify(cacheService).put(CacheKeys.getUserWithCardsKey(user.getId()), userCacheDto);
-        verify(cacheService).put(CacheKeys.getUserWithCardsKey(otherUser.getId()), userCacheDto);
+        verify(cacheService).multiPut(Map.of(
+                CacheKeys.getUserWithCardsKey(user.getId()), userCacheDto,
+                CacheKeys.getUserWithCardsKey(otherUser.getId()), userCacheDto));
+        verify(cacheService, never()).put(anyString(), any());
     }
 
     @Test
@@ -377,14 +830,53 @@ class UserServiceImplTest {
         List<UUID> userIds = Collections.singletonList(UUID.randomUUID());
         List<String> cacheKeys = userIds.stream().map(CacheKeys::getUserWithCardsKey).collect(Collectors.toList());
 
-        when(cacheService.multiGet(any(), any(Class.class))).thenReturn(Collections.singletonList(null));
+        when(cacheService.multiGetEntries(any(), any(Class.class))).thenReturn(Collections.singletonList(null));
         when(userRepository.findAllByIdIn(userIds)).thenReturn(Collections.emptyList());
 
         assertThrows(UserNotFoundException.class, () -> {
             userService.getAllUsersByIds(userIds);
         });
 
-        verify(cacheService).multiGet(cacheKeys, UserCacheDto.class);
+        verify(cacheService).multiGetEntries(cacheKeys, UserCacheDto.class);
         verify(userRepository).findAllByIdIn(userIds);
+        verify(negativeCache).markMissing(List.of(CacheKeys.getMissingUserKey(userIds.get(0))));
+    }
+
+    @Test
+    @DisplayName("Test get all users by ids - negatively cached id skips DB")
+    void getAllUsersByIds_whenIdNegativelyCached_shouldThrowWithoutDbLookup() {
+        List<UUID> userIds = Collections.singletonList(UUID.randomUUID());
+        String missingKey = CacheKeys.getMissingUserKey(userIds.get(0));
+
+        when(cacheService.multiGetEntries(any(), any(Class.class))).thenReturn(Collections.singletonList(null));
+        when(negativeCache.findMissing(List.of(missingKey))).thenReturn(Set.of(missingKey));
+
+        assertThrows(UserNotFoundException.class, () -> {
+            userService.getAllUsersByIds(userIds);
+        });
+
+        verify(userRepository, never()).findAllByIdIn(any());
+    }
+
+    private static DeletedUserRow deletedUser(UUID userId) {
+        return deletedRow(userId, null);
+    }
+
+    private static DeletedUserRow deletedCard(UUID cardId) {
+        return deletedRow(null, cardId);
+    }
+
+    private static DeletedUserRow deletedRow(UUID userId, UUID cardId) {
+        return new DeletedUserRow() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public UUID getCardId() {
+                return cardId;
+            }
+        };
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.innowise.userservice.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Test generate produces version 7 UUIDs carrying the current time")
+    void generate_shouldSetVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+
+        UUID id = UuidV7Generator.generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Test generate produces strictly increasing ids")
+    void generate_whenCalledRepeatedly_shouldBeMonotonic() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7Generator.generate());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(),
+                    ids.get(i).getMostSignificantBits()) < 0);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchLoaderTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+    private static final Map<String, String> VALUES = Map.of("a", "A", "b", "B");
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final DistributionSummary batchSizes = new SimpleMeterRegistry().summary("batch-size");
+    private final List<List<String>> batches = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test keys requested within the window are loaded in one batch")
+    void loadAsync_whenWindowElapses_shouldDispatchOneBatch() {
+        BatchLoader<String, String> loader = loader(Duration.ofMillis(20), 100);
+
+        CompletableFuture<String> first = loader.loadAsync("a");
+        CompletableFuture<String> second = loader.loadAsync("b");
+        CompletableFuture<String> duplicate = loader.loadAsync("a");
+
+        assertEquals("A", first.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals("B", second.join());
+        assertSame(first, duplicate);
+        assertEquals(List.of(List.of("a", "b")), batches);
+        assertEquals(1, batchSizes.count());
+    }
+
+    @Test
+    @DisplayName("Test a full batch is dispatched without waiting for the window")
+    void loadAsync_whenBatchFull_shouldDispatchImmediately() {
+        BatchLoader<String, String> loader = loader(Duration.ofMinutes(1), 2);
+
+        CompletableFuture<String> first = loader.loadAsync("a");
+        CompletableFuture<String> second = loader.loadAsync("b");
+
+        assertEquals("A", first.getNow(null));
+        assertEquals("B", second.getNow(null));
+        assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    @DisplayName("Test keys left out of the batch result complete with null")
+    void load_whenKeyMissingFromResult_shouldReturnNull() {
+        BatchLoader<String, String> loader = loader(Duration.ofMinutes(1), 1);
+
+        assertNull(loader.load("missing"));
+    }
+
+    @Test
+    @DisplayName("Test batch failures propagate to callers whose keys were not reported")
+    void load_whenBatchFunctionFails_shouldRethrow() {
+        BatchLoader<String, String> loader = new BatchLoader<>((keys, results) -> {
+            throw new IllegalStateException("db down");
+        }, Duration.ofMinutes(1), 1, MAX_WAIT, Runnable::run, scheduler, batchSizes);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, () -> loader.load("a"));
+        assertEquals("db down", error.getMessage());
+        assertThrows(CompletionException.class, () -> loader.loadAsync("b").join());
+    }
+
+    @Test
+    @DisplayName("Test keys reported before a batch failure keep their values")
+    void loadAsync_whenBatchFailsAfterReportingSomeKeys_shouldFailOnlyTheRest() {
+        BatchLoader<String, String> loader = new BatchLoader<>((keys, results) -> {
+            results.accept("a", "A");
+            throw new IllegalStateException("db down");
+        }, Duration.ofMinutes(1), 2, MAX_WAIT, Runnable::run, scheduler, batchSizes);
+
+        CompletableFuture<String> reported = loader.loadAsync("a");
+        CompletableFuture<String> unreported = loader.loadAsync("b");
+
+        assertEquals("A", reported.join());
+        assertThrows(CompletionException.class, unreported::join);
+    }
+
+    @Test
+    @DisplayName("Test callers of a rejected batch load their keys directly")
+    void load_whenExecutorRejectsBatch_shouldLoadDirectly() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::loadValues, Duration.ofMillis(1), 100, MAX_WAIT,
+                runnable -> {
+                    throw new RejectedExecutionException("queue full");
+                }, scheduler, batchSizes);
+
+        assertEquals("A", loader.load("a"));
+        assertEquals(List.of(List.of("a")), batches);
+    }
+
+    @Test
+    @DisplayName("Test callers stop waiting for a slow batch and load their keys directly")
+    void load_whenBatchExceedsMaxWait_shouldLoadDirectly() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::loadValues, Duration.ofMinutes(1), 100,
+                Duration.ofMillis(10), Runnable::run, scheduler, batchSizes);
+
+        assertEquals("A", loader.load("a"));
+        assertEquals(List.of(List.of("a")), batches);
+    }
+
+    private BatchLoader<String, String> loader(Duration window, int maxBatchSize) {
+        return new BatchLoader<>(this::loadValues, window, maxBatchSize, MAX_WAIT, Runnable::run, scheduler, batchSizes);
+    }
+
+    private void loadValues(List<String> keys, BiConsumer<String, String> results) {
+        batches.add(keys);
+        keys.stream()
+                .filter(VALUES::containsKey)
+                .forEach(key -> results.accept(key, VALUES.get(key)));
+    }
+}
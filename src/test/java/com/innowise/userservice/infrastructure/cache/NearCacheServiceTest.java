@@ -0,0 +1,148 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import com.innowise.userservice.application.dto.cache.CacheEntry;
+import com.innowise.userservice.application.dto.cache.UserCacheDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheServiceTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NearCacheService nearCacheService;
+
+    private final String key = CacheKeys.getUserWithCardsKey(UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nearCacheService = new NearCacheService(redisCacheService, stringRedisTemplate, listenerContainer,
+                meterRegistry, 100, Duration.ofMinutes(5), Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Test get serves repeated reads from the local tier")
+    void get_whenCalledTwice_shouldHitRedisOnce() {
+        UserCacheDto dto = new UserCacheDto();
+        when(redisCacheService.getEntry(key, UserCacheDto.class)).thenReturn(new CacheEntry<>(dto, null));
+
+        assertSame(dto, nearCacheService.get(key, UserCacheDto.class));
+        assertSame(dto, nearCacheService.get(key, UserCacheDto.class));
+
+        verify(redisCacheService, times(1)).getEntry(key, UserCacheDto.class);
+        assertEquals(1.0, meterRegistry.get("cache.redis.requests").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Test multiGet only asks Redis for keys missing locally")
+    void multiGet_whenSomeKeysLocal_shouldFetchOnlyMissingKeys() {
+        String otherKey = CacheKeys.getUserWithCardsKey(UUID.randomUUID());
+        UserCacheDto local = new UserCacheDto();
+        UserCacheDto remote = new UserCacheDto();
+        nearCacheService.put(key, local);
+        when(redisCacheService.multiGetEntries(List.of(otherKey), UserCacheDto.class))
+                .thenReturn(List.of(new CacheEntry<>(remote, null)));
+
+        List<UserCacheDto> result = nearCacheService.multiGet(Arrays.asList(key, otherKey), UserCacheDto.class);
+
+        assertEquals(Arrays.asList(local, remote), result);
+        verify(redisCacheService).multiGetEntries(List.of(otherKey), UserCacheDto.class);
+    }
+
+    @Test
+    @DisplayName("Test evict removes both tiers and broadcasts the key")
+    void evict_shouldInvalidateLocallyAndPublish() {
+        UserCacheDto dto = new UserCacheDto();
+        nearCacheService.put(key, dto);
+
+        nearCacheService.evict(key);
+        nearCacheService.get(key, UserCacheDto.class);
+
+        verify(redisCacheService).evict(key);
+        verify(stringRedisTemplate).convertAndSend(CacheKeys.INVALIDATION_CHANNEL, key);
+        verify(redisCacheService).getEntry(key, UserCacheDto.class);
+    }
+
+    @Test
+    @DisplayName("Test invalidation message from another node drops the local copy")
+    void onInvalidation_shouldDropLocalEntry() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        nearCacheService.put(key, new UserCacheDto());
+
+        listener.getValue().onMessage(new DefaultMessage(
+                CacheKeys.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8)), null);
+        nearCacheService.get(key, UserCacheDto.class);
+
+        verify(redisCacheService).getEntry(key, UserCacheDto.class);
+    }
+
+    @Test
+    @DisplayName("Test entries written without a time-to-live report the Redis default expiry")
+    void getEntry_whenPutWithoutTtl_shouldReportDefaultExpiry() {
+        String otherKey = CacheKeys.getUserWithCardsKey(UUID.randomUUID());
+        Instant before = Instant.now();
+        nearCacheService.put(key, new UserCacheDto());
+        nearCacheService.multiPut(Map.of(otherKey, new UserCacheDto()));
+
+        for (String cachedKey : List.of(key, otherKey)) {
+            Instant expiresAt = nearCacheService.getEntry(cachedKey, UserCacheDto.class).expiresAt();
+            assertNotNull(expiresAt);
+            assertFalse(expiresAt.isBefore(before.plus(Duration.ofDays(1))));
+        }
+        verify(redisCacheService, never()).getEntry(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test entries read from Redis keep their Redis expiry locally")
+    void getEntry_whenLoadedFromRedis_shouldKeepExpiry() {
+        Instant expiresAt = Instant.now().plusSeconds(30);
+        when(redisCacheService.getEntry(key, UserCacheDto.class))
+                .thenReturn(new CacheEntry<>(new UserCacheDto(), expiresAt));
+
+        nearCacheService.getEntry(key, UserCacheDto.class);
+
+        assertEquals(expiresAt, nearCacheService.getEntry(key, UserCacheDto.class).expiresAt());
+        verify(redisCacheService, times(1)).getEntry(key, UserCacheDto.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.innowise.userservice.infrastructure.cache;
+
+import com.innowise.userservice.application.dto.cache.UserCacheDto;
+import com.innowise.userservice.application.exception.notfound.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightLoaderTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    private final String key = CacheKeys.getUserWithCardsKey(UUID.randomUUID());
+
+    @Test
+    @DisplayName("Test concurrent loads of one key run the loader once")
+    void load_whenConcurrentCallers_shouldRunLoaderOnce() throws Exception {
+        SingleFlightLoader loader = new SingleFlightLoader(redisCacheService, false, Duration.ofSeconds(1), Duration.ofMillis(10));
+        UserCacheDto dto = new UserCacheDto();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<UserCacheDto> leader = executor.submit(() -> loader.load(key, UserCacheDto.class, () -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return dto;
+            }));
+            while (loads.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<UserCacheDto> follower = executor.submit(() -> loader.load(key, UserCacheDto.class, () -> {
+                loads.incrementAndGet();
+                return new UserCacheDto();
+            }));
+            Thread.sleep(200);
+            release.countDown();
+
+            assertSame(dto, leader.get(5, TimeUnit.SECONDS));
+            assertSame(dto, follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Test loader exceptions propagate to the caller")
+    void load_whenLoaderThrows_shouldRethrow() {
+        SingleFlightLoader loader = new SingleFlightLoader(redisCacheService, false, Duration.ofSeconds(1), Duration.ofMillis(10));
+
+        assertThrows(UserNotFoundException.class, () -> loader.load(key, UserCacheDto.class, () -> {
+            throw new UserNotFoundException("User not found");
+        }));
+    }
+
+    @Test
+    @DisplayName("Test lease held elsewhere waits for the entry instead of loading")
+    void load_whenLeaseHeldByOtherNode_shouldUseCachedResult() {
+        SingleFlightLoader loader = new SingleFlightLoader(redisCacheService, true, Duration.ofSeconds(1), Duration.ofMillis(10));
+        UserCacheDto dto = new UserCacheDto();
+        when(redisCacheService.putIfAbsent(eq(CacheKeys.getLoadLeaseKey(key)), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisCacheService.hasKey(CacheKeys.getLoadLeaseKey(key))).thenReturn(true);
+        when(redisCacheService.get(key, UserCacheDto.class)).thenReturn(null, dto);
+
+        UserCacheDto result = loader.load(key, UserCacheDto.class, () -> {
+            throw new IllegalStateException("Loader must not run while another node holds the lease");
+        });
+
+        assertSame(dto, result);
+        verify(redisCacheService, never()).evictIfValue(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Test lease released without a result stops waiting and loads locally")
+    void load_whenLeaseReleasedWithoutResult_shouldLoadWithoutWaitingForTtl() {
+        SingleFlightLoader loader = new SingleFlightLoader(redisCacheService, true, Duration.ofSeconds(30), Duration.ofMillis(10));
+        UserCacheDto dto = new UserCacheDto();
+        when(redisCacheService.putIfAbsent(eq(CacheKeys.getLoadLeaseKey(key)), anyString(), any(Duration.class))).thenReturn(false);
+        when(redisCacheService.hasKey(CacheKeys.getLoadLeaseKey(key))).thenReturn(false);
+        when(redisCacheService.get(key, UserCacheDto.class)).thenReturn(null);
+
+        long start = System.nanoTime();
+        UserCacheDto result = loader.load(key, UserCacheDto.class, () -> dto);
+
+        assertSame(dto, result);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    @DisplayName("Test acquired lease is released only if this node still holds it")
+    void load_whenLeaseAcquired_shouldReleaseLease() {
+        SingleFlightLoader loader = new SingleFlightLoader(redisCacheService, true, Duration.ofSeconds(1), Duration.ofMillis(10));
+        when(redisCacheService.putIfAbsent(eq(CacheKeys.getLoadLeaseKey(key)), anyString(), any(Duration.class))).thenReturn(true);
+
+        loader.load(key, UserCacheDto.class, UserCacheDto::new);
+
+        verify(redisCacheService).evictIfValue(eq(CacheKeys.getLoadLeaseKey(key)), anyString());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
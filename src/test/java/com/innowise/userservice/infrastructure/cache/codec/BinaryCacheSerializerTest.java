@@ -0,0 +1,97 @@
+package com.innowise.userservice.infrastructure.cache.codec;
+
+import com.innowise.userservice.application.dto.cache.CardInfoCacheDto;
+import com.innowise.userservice.application.dto.cache.UserCacheDto;
+import com.innowise.userservice.application.dto.cache.UserJsonCacheDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryCacheSerializerTest {
+
+    private RedisSerializer<Object> jsonSerializer;
+    private BinaryCacheSerializer serializer;
+    private UserCacheDto user;
+
+    @BeforeEach
+    void setUp() {
+        CardInfoCacheDtoCodec cardCodec = new CardInfoCacheDtoCodec();
+        List<CacheValueCodec<?>> codecs = List.of(new UserCacheDtoCodec(cardCodec), cardCodec,
+                new UserJsonCacheDtoCodec());
+        jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        serializer = new BinaryCacheSerializer(codecs, jsonSerializer, true);
+
+        CardInfoCacheDto card = new CardInfoCacheDto(UUID.randomUUID(), "1111222233334444", "John Doe",
+                LocalDate.of(2030, 1, 31));
+        user = new UserCacheDto(UUID.randomUUID(), "John", "Doe", LocalDate.of(1990, 5, 15),
+                "john.doe@example.com", List.of(card), 3L);
+    }
+
+    @Test
+    @DisplayName("Test user aggregate survives a binary round trip")
+    void serialize_whenUserAggregate_shouldRoundTrip() {
+        byte[] bytes = serializer.serialize(user);
+
+        assertEquals(BinaryCacheSerializer.MAGIC, bytes[0]);
+        assertEquals(user, serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("Test null card list and null fields are preserved")
+    void serialize_whenNullFields_shouldRoundTrip() {
+        UserCacheDto sparse = UserCacheDto.builder().id(UUID.randomUUID()).email("a@b.c").build();
+
+        assertEquals(sparse, serializer.deserialize(serializer.serialize(sparse)));
+    }
+
+    @Test
+    @DisplayName("Test binary encoding is smaller than JSON")
+    void serialize_shouldBeSmallerThanJson() {
+        assertTrue(serializer.serialize(user).length < jsonSerializer.serialize(user).length);
+    }
+
+    @Test
+    @DisplayName("Test serialized user response survives a binary round trip")
+    void serialize_whenUserJson_shouldRoundTrip() {
+        UserJsonCacheDto json = new UserJsonCacheDto(3L, "{\"name\":\"John\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(json, serializer.deserialize(serializer.serialize(json)));
+    }
+
+    @Test
+    @DisplayName("Test unregistered types are written through the fallback")
+    void serialize_whenUnregisteredType_shouldUseFallback() {
+        byte[] bytes = serializer.serialize("plain");
+
+        assertEquals("plain", serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("Test unknown format version is read as a miss")
+    void deserialize_whenUnknownVersion_shouldReturnNull() {
+        byte[] bytes = serializer.serialize(user);
+        bytes[1] = (byte) (BinaryCacheSerializer.FORMAT_VERSION + 1);
+
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    @DisplayName("Test JSON mode still reads binary entries")
+    void deserialize_whenBinaryWritesDisabled_shouldStillReadBinary() {
+        BinaryCacheSerializer jsonMode = new BinaryCacheSerializer(
+                List.of(new UserCacheDtoCodec(new CardInfoCacheDtoCodec())), jsonSerializer, false);
+
+        assertEquals(user, jsonMode.deserialize(serializer.serialize(user)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.innowise.userservice.infrastructure.config;
+
+import com.innowise.userservice.application.dto.response.CardInfoResponse;
+import com.innowise.userservice.application.dto.response.UserResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the binary formats with JSON on a by-ids sized payload: each format must
+ * round trip the users and produce a smaller body.
+ */
+class BinaryFormatConfigTest {
+
+    private static final int USER_COUNT = 500;
+
+    private final BinaryFormatConfig config = new BinaryFormatConfig();
+    private List<UserResponse> users;
+    private int jsonSize;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            List<CardInfoResponse> cards = List.of(
+                    new CardInfoResponse(UUID.randomUUID(), "1111222233334444", "John Doe", LocalDate.of(2030, 1, 31)),
+                    new CardInfoResponse(UUID.randomUUID(), "5555666677778888", "John Doe", LocalDate.of(2031, 6, 30)));
+            users.add(new UserResponse(UUID.randomUUID(), "John" + i, "Doe", LocalDate.of(1990, 5, 15),
+                    "john.doe" + i + "@example.com", cards, null));
+        }
+        jsonSize = encode(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build())).length;
+    }
+
+    @Test
+    @DisplayName("Test CBOR round trips users in a smaller body than JSON")
+    void cbor_shouldRoundTripAndBeSmallerThanJson() throws IOException {
+        assertFormat("CBOR", config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder()));
+    }
+
+    @Test
+    @DisplayName("Test Smile round trips users in a smaller body than JSON")
+    void smile_shouldRoundTripAndBeSmallerThanJson() throws IOException {
+        assertFormat("Smile", config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder()));
+    }
+
+    private void assertFormat(String format, AbstractJackson2HttpMessageConverter converter) throws IOException {
+        ObjectMapper mapper = converter.getObjectMapper();
+        JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, UserResponse.class);
+
+        byte[] body = encode(converter);
+        assertEquals(users, mapper.readValue(body, type));
+        assertTrue(body.length < jsonSize, format + " body of " + body.length + " bytes is not smaller than JSON");
+    }
+
+    private byte[] encode(AbstractJackson2HttpMessageConverter converter) throws IOException {
+        return converter.getObjectMapper().writeValueAsBytes(users);
+    }
+}
@@ -0,0 +1,58 @@
+package com.innowise.userservice.infrastructure.persistence;
+
+import com.innowise.userservice.application.exception.unavailable.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new BulkheadDataSource(target, 1, Duration.ofMillis(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Test connections beyond the permit count are rejected until one is closed")
+    void getConnection_whenPermitsExhausted_shouldRejectUntilClosed() throws SQLException {
+        Connection first = dataSource.getConnection();
+
+        assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+        assertEquals(1.0, meterRegistry.get("db.bulkhead.rejected").counter().count());
+
+        first.close();
+        first.close();
+        assertEquals(1.0, meterRegistry.get("db.bulkhead.available").gauge().value());
+        dataSource.getConnection().close();
+        verify(connection, times(3)).close();
+    }
+
+    @Test
+    @DisplayName("Test a failed connection attempt returns its permit")
+    void getConnection_whenTargetFails_shouldReleasePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1.0, meterRegistry.get("db.bulkhead.available").gauge().value());
+    }
+}
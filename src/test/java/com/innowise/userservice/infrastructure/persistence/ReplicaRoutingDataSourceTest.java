@@ -0,0 +1,107 @@
+package com.innowise.userservice.infrastructure.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Test round robin alternates between replicas")
+    void getConnection_whenRoundRobin_shouldAlternateReplicas() throws SQLException {
+        when(firstReplica.getConnection()).thenReturn(mock(Connection.class));
+        when(secondReplica.getConnection()).thenReturn(mock(Connection.class));
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Policy.ROUND_ROBIN, Duration.ofSeconds(5));
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        verify(firstReplica, times(2)).getConnection();
+        verify(secondReplica, times(1)).getConnection();
+        assertEquals(2.0, meterRegistry.get("datasource.routing.connections").tag("target", "first").counter().count());
+    }
+
+    @Test
+    @DisplayName("Test least in flight prefers the replica with fewer open connections")
+    void getConnection_whenLeastInFlight_shouldPickLeastBusyReplica() throws SQLException {
+        when(firstReplica.getConnection()).thenReturn(mock(Connection.class));
+        when(secondReplica.getConnection()).thenReturn(mock(Connection.class));
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Policy.LEAST_IN_FLIGHT, Duration.ofSeconds(5));
+
+        Connection held = dataSource.getConnection();
+        dataSource.getConnection().close();
+        held.close();
+        dataSource.getConnection();
+
+        verify(firstReplica, times(2)).getConnection();
+        verify(secondReplica, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Test lagging or unreachable replicas fall back to the primary")
+    void getConnection_whenNoReplicaUsable_shouldUsePrimary() throws SQLException {
+        Connection lagging = lagReportingConnection(60_000);
+        when(firstReplica.getConnection()).thenReturn(lagging);
+        when(secondReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaRoutingDataSource dataSource = routing(ReplicaRoutingDataSource.Policy.ROUND_ROBIN, Duration.ofSeconds(5));
+
+        dataSource.refreshLag();
+        dataSource.getConnection();
+
+        verify(primary).getConnection();
+        assertEquals(1.0, meterRegistry.get("datasource.routing.connections").tag("target", "primary").counter().count());
+        assertEquals(60_000.0, meterRegistry.get("datasource.replica.lag").tag("target", "first").timeGauge()
+                .value(TimeUnit.MILLISECONDS));
+    }
+
+    private ReplicaRoutingDataSource routing(ReplicaRoutingDataSource.Policy policy, Duration maxLag) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("first", firstReplica);
+        replicas.put("second", secondReplica);
+        return new ReplicaRoutingDataSource(primary, replicas, policy, maxLag, Duration.ZERO, meterRegistry);
+    }
+
+    private static Connection lagReportingConnection(double lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagMillis);
+        return connection;
+    }
+}
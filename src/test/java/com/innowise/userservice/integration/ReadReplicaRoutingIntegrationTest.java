@@ -0,0 +1,85 @@
+package com.innowise.userservice.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ReadReplicaRoutingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CURRENT_DATABASE = "SELECT current_database()";
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16.6")
+            .withDatabaseName("replicadb");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.urls", REPLICA::getJdbcUrl);
+        registry.add("datasource.replica.username", REPLICA::getUsername);
+        registry.add("datasource.replica.password", REPLICA::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Read-only transactions go to the replica")
+    void whenTransactionIsReadOnly_thenQueriesReplica() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        double routedBefore = replicaConnections();
+
+        String database = readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+
+        assertThat(database).isEqualTo("replicadb");
+        assertThat(replicaConnections()).isEqualTo(routedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Read-write transactions stay on the primary")
+    void whenTransactionIsReadWrite_thenQueriesPrimary() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        String database = readWrite.execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+
+        assertThat(database).isEqualTo("testdb");
+    }
+
+    @Test
+    @DisplayName("Cache fills read from the primary")
+    void whenUserIsLoadedIntoCache_thenQueriesPrimary() throws Exception {
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, name, surname, birth_date, email, version) VALUES (?, ?, ?, ?, ?, 0)",
+                userId, "John", "Doe", LocalDate.of(1990, 1, 1), userId + "@example.com");
+
+        mockMvc.perform(get("/api/users/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId.toString()));
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.get("datasource.routing.connections").tag("target", "replica-0").counter().count();
+    }
+}
@@ -8,6 +8,7 @@ import com.innowise.userservice.application.dto.response.UserResponse;
 import com.innowise.userservice.domain.repository.CardInfoRepository;
 import com.innowise.userservice.domain.repository.UserRepository;
 import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +18,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +46,9 @@ class CardInfoControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @AfterEach
     void tearDown() {
         cleanupData();
@@ -99,6 +104,52 @@ class CardInfoControllerIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Endpoint: POST /cards/import")
+    class ImportCardsEndpoint {
+
+        @Test
+        @DisplayName("Imports Valid Rows and Evicts User Cache")
+        void whenImportCards_thenCopiesValidRowsAndReportsRejected() throws Exception {
+            UserResponse user = createDefaultUser();
+            String userCacheKey = CacheKeys.getUserWithCardsKey(user.id());
+            mockMvc.perform(get(USER_API_URL + "/{id}", user.id())).andExpect(status().isOk());
+            assertThat(redisTemplate.hasKey(userCacheKey)).isTrue();
+
+            String csv = "user_id,number,holder,expiration_date\n"
+                    + user.id() + "," + DEFAULT_CARD_NUMBER + ",\"Doe, John\"," + DEFAULT_EXPIRATION_DATE + "\n"
+                    + user.id() + ",123," + DEFAULT_HOLDER_NAME + "," + DEFAULT_EXPIRATION_DATE + "\n"
+                    + UUID.randomUUID() + "," + DEFAULT_CARD_NUMBER + "," + DEFAULT_HOLDER_NAME + "," + DEFAULT_EXPIRATION_DATE + "\n";
+
+            mockMvc.perform(post(CARD_API_URL + "/import")
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.rejected").value(2))
+                    .andExpect(jsonPath("$.errors", hasSize(2)));
+
+            assertThat(cardInfoRepository.findByUserIdIn(List.of(user.id())))
+                    .singleElement()
+                    .satisfies(card -> assertThat(card.getHolder()).isEqualTo("Doe, John"));
+            assertThat(redisTemplate.hasKey(userCacheKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Rejects File Without Header")
+        void whenImportCards_withoutHeader_thenReturns400() throws Exception {
+            UserResponse user = createDefaultUser();
+            String csv = user.id() + "," + DEFAULT_CARD_NUMBER + "," + DEFAULT_HOLDER_NAME + "," + DEFAULT_EXPIRATION_DATE + "\n";
+
+            mockMvc.perform(post(CARD_API_URL + "/import")
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andExpect(status().isBadRequest());
+
+            assertThat(cardInfoRepository.findByUserIdIn(List.of(user.id()))).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("Endpoint: GET /cards")
     class GetCardsEndpoint {
@@ -115,6 +166,56 @@ class CardInfoControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.holder").value(DEFAULT_HOLDER_NAME));
         }
 
+        @Test
+        @DisplayName("Get By Id - Cache Hit Without Connection")
+        void whenGetCardById_fromCache_thenAcquiresNoConnection() throws Exception {
+            CardInfoResponse card = createDefaultCard();
+            mockMvc.perform(get(CARD_API_URL + "/{id}", card.id())).andExpect(status().isOk());
+            long acquisitionsBefore = connectionAcquisitions();
+
+            mockMvc.perform(get(CARD_API_URL + "/{id}", card.id()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(card.id().toString()));
+            mockMvc.perform(post(CARD_API_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(card.id()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cards", hasSize(1)));
+
+            assertThat(connectionAcquisitions()).isEqualTo(acquisitionsBefore);
+        }
+
+        @Test
+        @DisplayName("Get By Id - Cached After First Read")
+        void whenGetCardById_thenCachesCard() throws Exception {
+            CardInfoResponse card = createDefaultCard();
+
+            mockMvc.perform(get(CARD_API_URL + "/{id}", card.id())).andExpect(status().isOk());
+
+            assertThat(redisTemplate.hasKey(CacheKeys.getCardKey(card.id()))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Batch Get - Cached and Missing Cards")
+        void whenBatchGetCards_thenReturnsFoundCardsAndMissingIds() throws Exception {
+            UserResponse user = createDefaultUser();
+            CardInfoResponse firstCard = createCardViaApi(createDefaultCardRequest(user.id()));
+            CardInfoResponse secondCard = createCardViaApi(new CreateCardInfoRequest(user.id(), "5555666677778888", "Jane B Doe", LocalDate.now().plusYears(3)));
+            mockMvc.perform(get(CARD_API_URL + "/{id}", firstCard.id())).andExpect(status().isOk());
+            UUID unknownId = UUID.randomUUID();
+
+            mockMvc.perform(post(CARD_API_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(firstCard.id(), unknownId, secondCard.id()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cards", hasSize(2)))
+                    .andExpect(jsonPath("$.cards[0].id").value(firstCard.id().toString()))
+                    .andExpect(jsonPath("$.cards[1].id").value(secondCard.id().toString()))
+                    .andExpect(jsonPath("$.missing[0]").value(unknownId.toString()));
+
+            assertThat(redisTemplate.hasKey(CacheKeys.getCardKey(secondCard.id()))).isTrue();
+        }
+
         @Test
         @DisplayName("Get By Id - Not Found returns 404")
         void whenGetCardById_ifNotExists_thenReturns404() throws Exception {
@@ -165,13 +266,16 @@ class CardInfoControllerIntegrationTest extends AbstractIntegrationTest {
             String userCacheKey = CacheKeys.getUserWithCardsKey(user.id());
 
             mockMvc.perform(get(USER_API_URL + "/{id}", user.id())).andExpect(status().isOk());
+            mockMvc.perform(get(CARD_API_URL + "/{id}", card.id())).andExpect(status().isOk());
             assertThat(redisTemplate.hasKey(userCacheKey)).isTrue();
+            assertThat(redisTemplate.hasKey(CacheKeys.getCardKey(card.id()))).isTrue();
 
             mockMvc.perform(delete(CARD_API_URL + "/{id}", card.id()))
                     .andExpect(status().isNoContent());
 
             assertThat(cardInfoRepository.existsById(card.id())).isFalse();
             assertThat(redisTemplate.hasKey(userCacheKey)).isFalse();
+            assertThat(redisTemplate.hasKey(CacheKeys.getCardKey(card.id()))).isFalse();
         }
 
         @Test
@@ -238,4 +342,8 @@ class CardInfoControllerIntegrationTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.message").value(message))
                 .andExpect(jsonPath("$.statusCode").value(statusCode));
     }
-}
\ No newline at end of file
+
+    private long connectionAcquisitions() {
+        return meterRegistry.get("hikaricp.connections.acquire").timer().count();
+    }
+}
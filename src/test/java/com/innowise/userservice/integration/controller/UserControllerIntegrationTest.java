@@ -1,22 +1,42 @@
 package com.innowise.userservice.integration.controller;
 
 import com.innowise.userservice.integration.AbstractIntegrationTest;
+import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
 import com.innowise.userservice.application.dto.request.CreateUserRequest;
 import com.innowise.userservice.application.dto.request.UpdateUserRequest;
+import com.innowise.userservice.application.dto.response.UserPageResponse;
 import com.innowise.userservice.application.dto.response.UserResponse;
 import com.innowise.userservice.domain.repository.UserRepository;
 import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -35,6 +55,12 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @AfterEach
     void tearDown() {
         cleanupData();
@@ -57,7 +83,7 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.email").value(DEFAULT_EMAIL));
 
             assertThat(userRepository.count()).isEqualTo(1);
-            assertThat(userRepository.findByEmail(request.email())).isPresent();
+            assertThat(userRepository.findProfileByEmail(request.email())).isPresent();
         }
 
         @Test
@@ -73,6 +99,109 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.message").value("User with email " + DEFAULT_EMAIL + " already exists"));
         }
 
+        @Test
+        @DisplayName("Concurrent Signups With Same Email")
+        void whenCreateUserConcurrently_withSameEmail_thenExactlyOneSucceeds() throws Exception {
+            int attempts = 8;
+            String body = objectMapper.writeValueAsString(createDefaultUserRequest());
+            ExecutorService executor = Executors.newFixedThreadPool(attempts);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            try {
+                for (int i = 0; i < attempts; i++) {
+                    statuses.add(executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post(USER_API_URL)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                                .andReturn().getResponse().getStatus();
+                    }));
+                }
+                start.countDown();
+
+                List<Integer> results = new ArrayList<>();
+                for (Future<Integer> status : statuses) {
+                    results.add(status.get(30, TimeUnit.SECONDS));
+                }
+                assertThat(results).containsOnlyOnce(201);
+                assertThat(results).filteredOn(status -> status != 201).containsOnly(409);
+                assertThat(userRepository.count()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Batch - Partial Success")
+        void whenCreateUsersInBatch_thenCreatesNewAndReportsConflicts() throws Exception {
+            createDefaultUser();
+            CreateUserRequest newRequest = new CreateUserRequest(
+                    "Jane", "Smith", DEFAULT_BIRTH_DATE,
+                    "jane.smith@example.com");
+            List<CreateUserRequest> requests = List.of(newRequest, createDefaultUserRequest(), newRequest);
+
+            mockMvc.perform(post(USER_API_URL + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requests)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(jsonPath("$[0].statusCode").value(201))
+                    .andExpect(jsonPath("$[0].user.email").value(newRequest.email()))
+                    .andExpect(jsonPath("$[1].statusCode").value(409))
+                    .andExpect(jsonPath("$[1].message").value("User with email " + DEFAULT_EMAIL + " already exists"))
+                    .andExpect(jsonPath("$[2].statusCode").value(409));
+
+            assertThat(userRepository.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Concurrent Batches With Same Email")
+        void whenCreateUsersInBatchConcurrently_withSameEmail_thenExactlyOneItemSucceeds() throws Exception {
+            int attempts = 8;
+            String body = objectMapper.writeValueAsString(List.of(createDefaultUserRequest()));
+            ExecutorService executor = Executors.newFixedThreadPool(attempts);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<MvcResult>> responses = new ArrayList<>();
+            try {
+                for (int i = 0; i < attempts; i++) {
+                    responses.add(executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post(USER_API_URL + "/batch")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(body))
+                                .andReturn();
+                    }));
+                }
+                start.countDown();
+
+                List<Integer> itemStatuses = new ArrayList<>();
+                for (Future<MvcResult> response : responses) {
+                    MvcResult result = response.get(30, TimeUnit.SECONDS);
+                    assertThat(result.getResponse().getStatus()).isEqualTo(200);
+                    itemStatuses.add(objectMapper.readTree(result.getResponse().getContentAsString())
+                            .get(0).get("statusCode").asInt());
+                }
+                assertThat(itemStatuses).containsOnlyOnce(201);
+                assertThat(itemStatuses).filteredOn(status -> status != 201).containsOnly(409);
+                assertThat(userRepository.count()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Batch - Invalid Item")
+        void whenCreateUsersInBatch_withInvalidItem_thenReturns400() throws Exception {
+            List<CreateUserRequest> requests = List.of(new CreateUserRequest("", "", null, "invalid-email"));
+
+            mockMvc.perform(post(USER_API_URL + "/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requests)))
+                    .andExpect(status().isBadRequest());
+
+            assertThat(userRepository.count()).isZero();
+        }
+
         @Test
         @DisplayName("Invalid Request")
         void whenCreateUser_withInvalidRequest_thenReturns400() throws Exception {
@@ -101,12 +230,70 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
 
             mockMvc.perform(get(USER_API_URL))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(2)))
-                    .andExpect(jsonPath("$[0].id").exists())
-                    .andExpect(jsonPath("$[1].id").exists())
-                    .andExpect(jsonPath("$[*].email", containsInAnyOrder(
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].id").exists())
+                    .andExpect(jsonPath("$.content[1].id").exists())
+                    .andExpect(jsonPath("$.content[*].email", containsInAnyOrder(
                             firstUser.email(), secondUser.email()
-                    )));
+                    )))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Get All - Paged By Cursor")
+        void whenGetUsersPageBySize_thenFollowsCursorToLastPage() throws Exception {
+            UserResponse firstUser = createDefaultUser();
+            UserResponse secondUser = createUserViaApi(new CreateUserRequest(
+                    "Jane", "Smith", DEFAULT_BIRTH_DATE,
+                    "jane.smith@example.com"));
+
+            String firstPage = mockMvc.perform(get(USER_API_URL).param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                    .andReturn().getResponse().getContentAsString();
+            UserPageResponse page = objectMapper.readValue(firstPage, UserPageResponse.class);
+
+            String secondPage = mockMvc.perform(get(USER_API_URL)
+                            .param("size", "1")
+                            .param("cursor", page.nextCursor()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            UserPageResponse lastPage = objectMapper.readValue(secondPage, UserPageResponse.class);
+
+            assertThat(List.of(page.content().get(0).id(), lastPage.content().get(0).id()))
+                    .containsExactlyInAnyOrder(firstUser.id(), secondUser.id());
+        }
+
+        @Test
+        @DisplayName("Get All - Invalid Cursor")
+        void whenGetUsers_withInvalidCursor_thenReturns400() throws Exception {
+            assertGetApiError(USER_API_URL + "?cursor=not-a-cursor", "Invalid cursor: not-a-cursor", 400);
+        }
+
+        @Test
+        @DisplayName("Export - Success")
+        void whenExportUsers_thenStreamsOneJsonLinePerUser() throws Exception {
+            UserResponse firstUser = createDefaultUser();
+            UserResponse secondUser = createUserViaApi(new CreateUserRequest(
+                    "Jane", "Smith", DEFAULT_BIRTH_DATE,
+                    "jane.smith@example.com"));
+
+            MvcResult result = mockMvc.perform(get(USER_API_URL + "/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String body = mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<UUID> exportedIds = new ArrayList<>();
+            for (String line : body.split("\n")) {
+                exportedIds.add(objectMapper.readValue(line, UserResponse.class).id());
+            }
+            assertThat(exportedIds).containsExactlyInAnyOrder(firstUser.id(), secondUser.id());
         }
 
         @Test
@@ -122,6 +309,141 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.email").value(DEFAULT_EMAIL));
         }
 
+        @Test
+        @DisplayName("Get By Id - Cache Hit Without Connection")
+        void whenGetUserById_fromCache_thenAcquiresNoConnection() throws Exception {
+            UserResponse createdUser = createDefaultUser();
+            UUID userId = createdUser.id();
+            performGetUserByIdAndAssertResponse(userId);
+            long acquisitionsBefore = connectionAcquisitions();
+
+            performGetUserByIdAndAssertResponse(userId);
+
+            assertThat(connectionAcquisitions()).isEqualTo(acquisitionsBefore);
+        }
+
+        @Test
+        @DisplayName("Get By Id - Not Modified From Cache")
+        void whenGetUserById_withCurrentETag_thenReturns304WithoutBody() throws Exception {
+            UUID userId = createDefaultUser().id();
+            String eTag = mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            long acquisitionsBefore = connectionAcquisitions();
+
+            mockMvc.perform(get(USER_API_URL + "/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            assertThat(connectionAcquisitions()).isEqualTo(acquisitionsBefore);
+        }
+
+        @Test
+        @DisplayName("Get By Id - Card Change Invalidates ETag")
+        void whenCardCreated_thenPreviousETagNoLongerMatches() throws Exception {
+            UUID userId = createDefaultUser().id();
+            String eTag = mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(post("/api/cards")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateCardInfoRequest(
+                                    userId, "1234567890123456", "John Doe", LocalDate.now().plusYears(2)))))
+                    .andExpect(status().isCreated());
+
+            mockMvc.perform(get(USER_API_URL + "/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.cards", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("Get By Id - CBOR")
+        void whenGetUserById_withCborAccept_thenReturnsCborBody() throws Exception {
+            UUID userId = createDefaultUser().id();
+
+            byte[] body = mockMvc.perform(get(USER_API_URL + "/{id}", userId).accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0-cbor\""))
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            UserResponse user = new ObjectMapper(new CBORFactory()).findAndRegisterModules()
+                    .readValue(body, UserResponse.class);
+            assertThat(user.id()).isEqualTo(userId);
+            assertThat(user.email()).isEqualTo(DEFAULT_EMAIL);
+        }
+
+        @Test
+        @DisplayName("Get By Id - JSON ETag Does Not Match CBOR")
+        void whenGetUserById_withJsonETagAndCborAccept_thenReturnsCborBody() throws Exception {
+            UUID userId = createDefaultUser().id();
+            String eTag = mockMvc.perform(get(USER_API_URL + "/{id}", userId).accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(USER_API_URL + "/{id}", userId)
+                            .accept(MediaType.APPLICATION_CBOR)
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0-cbor\""));
+        }
+
+        @Test
+        @DisplayName("Get By Id - Sparse Fieldset Without Cards")
+        void whenGetUserById_withFieldsWithoutCards_thenReturnsOnlyRequestedFields() throws Exception {
+            UUID userId = createDefaultUser().id();
+
+            mockMvc.perform(get(USER_API_URL + "/{id}", userId).param("fields", "name,email"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"0\""))
+                    .andExpect(jsonPath("$.name").value(DEFAULT_FIRST_NAME))
+                    .andExpect(jsonPath("$.email").value(DEFAULT_EMAIL))
+                    .andExpect(jsonPath("$.id").doesNotExist())
+                    .andExpect(jsonPath("$.cards").doesNotExist());
+
+            assertThat(redisTemplate.hasKey(CacheKeys.getUserProfileKey(userId))).isTrue();
+            assertThat(redisTemplate.hasKey(CacheKeys.getUserWithCardsKey(userId))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Get By Email - Sparse Fieldset With Cards")
+        void whenGetUserByEmail_withCardsField_thenReturnsCards() throws Exception {
+            createDefaultUser();
+
+            mockMvc.perform(get(USER_API_URL + "/email/{email}", DEFAULT_EMAIL).param("fields", "id,cards"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").exists())
+                    .andExpect(jsonPath("$.cards").isArray())
+                    .andExpect(jsonPath("$.email").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Get By Ids - Sparse Fieldset")
+        void whenGetUsersByIds_withFields_thenReturnsOnlyRequestedFields() throws Exception {
+            UUID userId = createDefaultUser().id();
+
+            mockMvc.perform(get(USER_API_URL + "/by-ids").param("ids", userId.toString()).param("fields", "id"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id").value(userId.toString()))
+                    .andExpect(jsonPath("$[0].name").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Get By Id - Unknown Field")
+        void whenGetUserById_withUnknownField_thenReturns400() throws Exception {
+            UUID userId = createDefaultUser().id();
+
+            mockMvc.perform(get(USER_API_URL + "/{id}", userId).param("fields", "name,password"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @Test
         @DisplayName("Get By Id - Not Found")
         void whenGetUserById_withNonExistingId_thenReturns404() throws Exception {
@@ -218,10 +540,48 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
                     .andExpect(jsonPath("$.name").value("NewJohn"))
                     .andExpect(jsonPath("$.email").value("newjohn.doe@example.com"));
 
-            assertThat(userRepository.findByEmail("newjohn.doe@example.com")).isPresent();
+            assertThat(userRepository.findProfileByEmail("newjohn.doe@example.com")).isPresent();
             assertThat(redisTemplate.hasKey(cacheKey)).isFalse();
         }
 
+        @Test
+        @DisplayName("Conditional - Success")
+        void whenUpdateUser_withCurrentETag_thenReturns200AndNewETag() throws Exception {
+            UUID userId = createDefaultUser().id();
+
+            mockMvc.perform(put(USER_API_URL + "/{id}", userId)
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createUpdateUserRequest())))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.name").value("NewJohn"));
+
+            mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.email").value("newjohn.doe@example.com"));
+        }
+
+        @Test
+        @DisplayName("Conditional - Stale ETag")
+        void whenUpdateUser_withStaleETag_thenReturns412() throws Exception {
+            UUID userId = createDefaultUser().id();
+            mockMvc.perform(put(USER_API_URL + "/{id}", userId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createUpdateUserRequest())))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+            mockMvc.perform(put(USER_API_URL + "/{id}", userId)
+                            .header(HttpHeaders.IF_MATCH, "\"0\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new UpdateUserRequest("Stale", null, null, null))))
+                    .andExpect(status().isPreconditionFailed());
+
+            assertThat(userRepository.findById(userId)).get()
+                    .extracting(user -> user.getName()).isEqualTo("NewJohn");
+        }
+
         @Test
         @DisplayName("Email Already Exists")
         void whenUpdateUser_withExistingEmail_thenReturns409() throws Exception {
@@ -270,6 +630,25 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
             assertThat(redisTemplate.hasKey(cacheKey)).isFalse();
         }
 
+        @Test
+        @DisplayName("Batch - Deletes Users With Cards And Evicts Cache")
+        void whenDeleteUsersInBatch_thenDeletesExistingAndEvictsCache() throws Exception {
+            UserResponse firstUser = createUserWithCards(DEFAULT_EMAIL, 2);
+            UserResponse secondUser = createUserWithCards("jane.smith@example.com", 1);
+            mockMvc.perform(get(USER_API_URL + "/{id}", firstUser.id())).andExpect(status().isOk());
+            List<UUID> ids = List.of(firstUser.id(), secondUser.id(), UUID.randomUUID());
+
+            mockMvc.perform(post(USER_API_URL + "/batch-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(ids)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(3))
+                    .andExpect(jsonPath("$.deleted").value(2));
+
+            assertThat(userRepository.count()).isZero();
+            assertThat(redisTemplate.hasKey(CacheKeys.getUserWithCardsKey(firstUser.id()))).isFalse();
+        }
+
         @Test
         @DisplayName("Not Found")
         void whenDeleteUser_withNonExistingId_thenReturns404() throws Exception {
@@ -279,11 +658,144 @@ class UserControllerIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /users/batch-get endpoint")
+    class BatchGetEndpoint {
+        @Test
+        @DisplayName("Success - Partial Result")
+        void whenBatchGetUsers_withUnknownId_thenReturnsFoundUsersAndMissingIds() throws Exception {
+            UserResponse firstUser = createUserWithCards(DEFAULT_EMAIL, 2);
+            UserResponse secondUser = createUserWithCards("jane.smith@example.com", 1);
+            mockMvc.perform(get(USER_API_URL + "/{id}", firstUser.id())).andExpect(status().isOk());
+            UUID unknownId = UUID.randomUUID();
+
+            mockMvc.perform(post(USER_API_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(firstUser.id(), unknownId, secondUser.id()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users", hasSize(2)))
+                    .andExpect(jsonPath("$.users[0].id").value(firstUser.id().toString()))
+                    .andExpect(jsonPath("$.users[0].cards", hasSize(2)))
+                    .andExpect(jsonPath("$.users[1].id").value(secondUser.id().toString()))
+                    .andExpect(jsonPath("$.users[1].cards", hasSize(1)))
+                    .andExpect(jsonPath("$.missing", hasSize(1)))
+                    .andExpect(jsonPath("$.missing[0]").value(unknownId.toString()));
+
+            assertThat(redisTemplate.hasKey(CacheKeys.getUserWithCardsKey(secondUser.id()))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Empty Batch")
+        void whenBatchGetUsers_withEmptyBody_thenReturns400() throws Exception {
+            mockMvc.perform(post(USER_API_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Statement counts")
+    class StatementCounts {
+        @Test
+        @DisplayName("Get By Id - Single Statement")
+        void whenGetUserByIdFromDb_thenRunsOneStatement() throws Exception {
+            UserResponse user = createUserWithCards(DEFAULT_EMAIL, 3);
+            statistics().clear();
+
+            performGetUserByIdAndAssertResponse(user.id());
+
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Get By Ids - Single Statement")
+        void whenGetUsersByIdsFromDb_thenRunsOneStatement() throws Exception {
+            UserResponse firstUser = createUserWithCards(DEFAULT_EMAIL, 2);
+            UserResponse secondUser = createUserWithCards("jane.smith@example.com", 2);
+            UserResponse thirdUser = createUserWithCards("jack.smith@example.com", 2);
+            statistics().clear();
+
+            mockMvc.perform(get(USER_API_URL + "/by-ids")
+                            .param("ids", firstUser.id().toString(), secondUser.id().toString(), thirdUser.id().toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].cards", hasSize(3)));
+
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Batch Get - Two Statements Per Chunk")
+        void whenBatchGetUsersFromDb_thenRunsTwoStatements() throws Exception {
+            UserResponse firstUser = createUserWithCards(DEFAULT_EMAIL, 2);
+            UserResponse secondUser = createUserWithCards("jane.smith@example.com", 2);
+            statistics().clear();
+
+            mockMvc.perform(post(USER_API_URL + "/batch-get")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(firstUser.id(), secondUser.id()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.users", hasSize(2)));
+
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Get By Email - Single Statement")
+        void whenGetUserByEmail_thenRunsOneStatement() throws Exception {
+            createUserWithCards(DEFAULT_EMAIL, 3);
+            statistics().clear();
+
+            mockMvc.perform(get(USER_API_URL + "/email/" + DEFAULT_EMAIL))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cards", hasSize(3)));
+
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Get All - Two Statements Per Page")
+        void whenGetUsersPage_thenRunsTwoStatements() throws Exception {
+            createUserWithCards(DEFAULT_EMAIL, 2);
+            createUserWithCards("jane.smith@example.com", 2);
+            statistics().clear();
+
+            mockMvc.perform(get(USER_API_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(2)));
+
+            assertThat(statistics().getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        private Statistics statistics() {
+            return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        }
+    }
+
+    private UserResponse createUserWithCards(String email, int cardCount) throws Exception {
+        UserResponse user = createUserViaApi(new CreateUserRequest(
+                DEFAULT_FIRST_NAME, DEFAULT_LAST_NAME, DEFAULT_BIRTH_DATE, email));
+        for (int i = 0; i < cardCount; i++) {
+            CreateCardInfoRequest card = new CreateCardInfoRequest(
+                    user.id(), String.format("%016d", i), DEFAULT_FIRST_NAME + " " + DEFAULT_LAST_NAME,
+                    LocalDate.now().plusYears(2));
+            mockMvc.perform(post("/api/cards")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(card)))
+                    .andExpect(status().isCreated());
+        }
+        return user;
+    }
+
     private void cleanupData() {
         userRepository.deleteAll();
         redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
     }
 
+    private long connectionAcquisitions() {
+        return meterRegistry.get("hikaricp.connections.acquire").timer().count();
+    }
+
     private void testRedisConnection() {
         redisTemplate.opsForValue().set("test-key", "test-value");
         String value = redisTemplate.opsForValue().get("test-key").toString();
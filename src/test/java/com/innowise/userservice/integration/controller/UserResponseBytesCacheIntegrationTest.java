@@ -0,0 +1,139 @@
+package com.innowise.userservice.integration.controller;
+
+import com.innowise.userservice.application.dto.request.CreateCardInfoRequest;
+import com.innowise.userservice.application.dto.request.CreateUserRequest;
+import com.innowise.userservice.application.dto.request.UpdateUserRequest;
+import com.innowise.userservice.application.dto.response.CardInfoResponse;
+import com.innowise.userservice.application.dto.response.UserResponse;
+import com.innowise.userservice.domain.repository.UserRepository;
+import com.innowise.userservice.infrastructure.cache.CacheKeys;
+import com.innowise.userservice.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "cache.response-bytes.enabled=true")
+class UserResponseBytesCacheIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String USER_API_URL = "/api/users";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("Get By Id - Cached JSON Body Matches Rendered Response")
+    void whenGetUserByIdTwice_thenServesCachedJsonWithETag() throws Exception {
+        UUID userId = createUser().id();
+
+        String rendered = mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(redisTemplate.hasKey(CacheKeys.getUserJsonKey(userId))).isTrue();
+
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(content().json(rendered, true));
+    }
+
+    @Test
+    @DisplayName("Get By Id - Not Modified From Cached JSON")
+    void whenGetUserById_withCurrentETag_thenReturns304() throws Exception {
+        UUID userId = createUser().id();
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId)).andExpect(status().isOk());
+
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Update - Evicts Cached JSON")
+    void whenUpdateUser_thenEvictsCachedJson() throws Exception {
+        UUID userId = createUser().id();
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId)).andExpect(status().isOk());
+
+        mockMvc.perform(put(USER_API_URL + "/{id}", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UpdateUserRequest("NewJohn", null, null, null))))
+                .andExpect(status().isOk());
+        assertThat(redisTemplate.hasKey(CacheKeys.getUserJsonKey(userId))).isFalse();
+
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.name").value("NewJohn"));
+    }
+
+    @Test
+    @DisplayName("Card Delete - Invalidates Cached JSON ETag")
+    void whenCardDeleted_thenPreviousETagNoLongerMatches() throws Exception {
+        UUID userId = createUser().id();
+        String cardBody = mockMvc.perform(post("/api/cards")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCardInfoRequest(
+                                userId, "1234567890123456", "John Doe", LocalDate.now().plusYears(2)))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        UUID cardId = objectMapper.readValue(cardBody, CardInfoResponse.class).id();
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(delete("/api/cards/{id}", cardId)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get(USER_API_URL + "/{id}", userId).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.cards").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get By Id - Not Found")
+    void whenGetUserById_withUnknownId_thenReturns404() throws Exception {
+        mockMvc.perform(get(USER_API_URL + "/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private UserResponse createUser() throws Exception {
+        CreateUserRequest request = new CreateUserRequest("John", "Doe", LocalDate.of(1983, 8, 21),
+                "john.doe@example.com");
+        String responseBody = mockMvc.perform(post(USER_API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(responseBody, UserResponse.class);
+    }
+}